@@ -0,0 +1,74 @@
+package com.coverflow.global.jwt;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.coverflow.global.jwt.infrastructure.VerifiedTokenRepository;
+import com.coverflow.global.util.HashUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액세스 토큰 검증 비용 비교
+ * perRequestVerifierTwice: 기존 방식 (요청마다 Algorithm/JWTVerifier 생성, 유효성 검사와 회원 ID 추출에서 두 번 검증)
+ * sharedVerifierOnce: JwtService.init()에서 만든 검증기를 재사용해 한 번만 검증
+ * cachedVerify: JwtService.verifyToken()과 같이 다이제스트로 검증 결과 캐시 조회
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class JwtVerifyBenchmark {
+
+    private static final String SECRET_KEY = "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key";
+    private static final String MEMBER_ID_CLAIM = "memberId";
+
+    private JWTVerifier jwtVerifier;
+    private VerifiedTokenRepository verifiedTokenRepository;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        Algorithm algorithm = Algorithm.HMAC512(SECRET_KEY);
+        jwtVerifier = JWT.require(algorithm).build();
+        verifiedTokenRepository = new VerifiedTokenRepository();
+        token = JWT.create()
+                .withSubject("AccessToken")
+                .withExpiresAt(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .withClaim(MEMBER_ID_CLAIM, UUID.randomUUID().toString())
+                .withClaim("role", "MEMBER")
+                .withClaim("ver", 0)
+                .sign(algorithm);
+    }
+
+    @Benchmark
+    public UUID perRequestVerifierTwice() {
+        JWT.require(Algorithm.HMAC512(SECRET_KEY)).build().verify(token);
+        return JWT.require(Algorithm.HMAC512(SECRET_KEY)).build()
+                .verify(token)
+                .getClaim(MEMBER_ID_CLAIM)
+                .as(UUID.class);
+    }
+
+    @Benchmark
+    public UUID sharedVerifierOnce() {
+        return jwtVerifier.verify(token)
+                .getClaim(MEMBER_ID_CLAIM)
+                .as(UUID.class);
+    }
+
+    @Benchmark
+    public UUID cachedVerify() {
+        String digest = Base64.getEncoder().encodeToString(HashUtil.sha256(token));
+        DecodedJWT decodedJWT = verifiedTokenRepository.findByDigest(digest);
+        if (decodedJWT == null) {
+            decodedJWT = jwtVerifier.verify(token);
+            verifiedTokenRepository.save(digest, decodedJWT);
+        }
+        return decodedJWT.getClaim(MEMBER_ID_CLAIM).as(UUID.class);
+    }
+}
@@ -0,0 +1,51 @@
+package com.coverflow.global.util;
+
+import com.coverflow.global.exception.GlobalException;
+import com.vane.badwordfiltering.BadWordFiltering;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비속어 검사 비용 비교
+ * libraryPerField: 기존 방식 (필드마다 BadWordFiltering을 새로 만들어 check() 호출)
+ * ahoCorasick: BadwordUtil.check(title, content) (정규화 + 미리 컴파일한 오토마타 한 번 순회)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BadwordBenchmark {
+
+    private static final String CLEAN_TITLE = "판교 백엔드 개발자 면접 후기 공유합니다";
+    private static final String CLEAN_CONTENT = "코딩 테스트는 알고리즘 두 문제였고, 기술 면접에서는 트랜잭션 격리 수준과 인덱스 설계를 깊게 물어봤습니다. "
+            + "분위기는 편안했고 면접관분들이 답변을 끝까지 들어 주셨어요. 연봉 협상은 최종 합격 후에 따로 진행한다고 합니다.";
+    private static final String DIRTY_CONTENT = "코딩 테스트는 알고리즘 두 문제였고, 기술 면접은 시발 너무 어려웠습니다. "
+            + "분위기는 편안했고 면접관분들이 답변을 끝까지 들어 주셨어요. 연봉 협상은 최종 합격 후에 따로 진행한다고 합니다.";
+
+    @Param({"clean", "dirty"})
+    private String input;
+
+    private String title;
+    private String content;
+
+    @Setup
+    public void setUp() {
+        title = CLEAN_TITLE;
+        content = "clean".equals(input) ? CLEAN_CONTENT : DIRTY_CONTENT;
+    }
+
+    @Benchmark
+    public boolean libraryPerField() {
+        return new BadWordFiltering().check(title) || new BadWordFiltering().check(content);
+    }
+
+    @Benchmark
+    public boolean ahoCorasick() {
+        try {
+            BadwordUtil.check(title, content);
+            return false;
+        } catch (GlobalException.ExistBadwordException e) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.coverflow.badword.application;
+
+import com.coverflow.badword.domain.Badword;
+import com.coverflow.badword.dto.request.SaveBadwordRequest;
+import com.coverflow.badword.dto.response.FindBadwordVersionResponse;
+import com.coverflow.badword.exception.BadwordException;
+import com.coverflow.badword.infrastructure.BadwordRepository;
+import com.coverflow.global.util.BadwordUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class BadwordService {
+
+    private final BadwordRepository badwordRepository;
+
+    // 컴파일은 별도 스레드 하나에서만 하고, 그동안 검사는 이전 오토마타를 그대로 쓴다.
+    private final ExecutorService compiler = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "badword-compiler");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean compileRequested = new AtomicBoolean();
+    private final AtomicReference<FindBadwordVersionResponse> version =
+            new AtomicReference<>(FindBadwordVersionResponse.of(0, 0, LocalDateTime.now()));
+
+    /**
+     * [관리자 전용: 비속어 사전 버전 조회 메서드]
+     * 현재 검사에 쓰이는 사전의 버전(반영된 최대 단어 id), 단어 수, 컴파일 시간
+     */
+    public FindBadwordVersionResponse findVersion() {
+        return version.get();
+    }
+
+    /**
+     * [관리자 전용: 비속어 추가 메서드]
+     * 커밋 후 백그라운드에서 사전을 다시 컴파일한다.
+     */
+    @Transactional
+    public void save(final SaveBadwordRequest request) {
+        String word = request.word().trim();
+        if (badwordRepository.existsByWord(word)) {
+            throw new BadwordException.BadwordExistException(word);
+        }
+        badwordRepository.save(new Badword(request));
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                requestCompile();
+            }
+        });
+    }
+
+    /**
+     * [비속어 사전 초기 컴파일 메서드]
+     * 서버 시작 시 기본 단어 + DB 단어로 컴파일
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        requestCompile();
+    }
+
+    /**
+     * [비속어 사전 동기화 메서드]
+     * 다른 서버에서 추가된 단어를 반영하기 위해 5분마다 DB 버전과 비교한다.
+     */
+    @Scheduled(fixedDelay = 300_000)
+    public void refresh() {
+        if (badwordRepository.findVersion() != version.get().version()) {
+            requestCompile();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        compiler.shutdownNow();
+    }
+
+    // 컴파일 대기 중인 요청이 있으면 합쳐서 한 번만 컴파일한다.
+    private void requestCompile() {
+        if (compileRequested.compareAndSet(false, true)) {
+            compiler.execute(this::compile);
+        }
+    }
+
+    private void compile() {
+        compileRequested.set(false);
+        try {
+            long currentVersion = badwordRepository.findVersion();
+            List<String> words = badwordRepository.findAllWords();
+            int wordCount = BadwordUtil.publish(words);
+
+            version.set(FindBadwordVersionResponse.of(currentVersion, wordCount, LocalDateTime.now()));
+            log.info("비속어 사전 컴파일 완료 - version {}, {}개", currentVersion, wordCount);
+        } catch (RuntimeException e) {
+            log.error("비속어 사전 컴파일 실패", e);
+        }
+    }
+}
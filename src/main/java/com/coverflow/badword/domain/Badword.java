@@ -0,0 +1,28 @@
+package com.coverflow.badword.domain;
+
+import com.coverflow.badword.dto.request.SaveBadwordRequest;
+import com.coverflow.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "tbl_badword",
+        indexes = {
+                @Index(name = "badword_word_idx", columnList = "word", unique = true)
+        })
+public class Badword extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // 비속어 고유 번호 (사전 버전으로 사용)
+    @Column(nullable = false, length = 50)
+    private String word; // 비속어
+
+    public Badword(final SaveBadwordRequest request) {
+        this.word = request.word().trim();
+    }
+}
@@ -0,0 +1,11 @@
+package com.coverflow.badword.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record SaveBadwordRequest(
+        @NotBlank
+        @Size(max = 50)
+        String word
+) {
+}
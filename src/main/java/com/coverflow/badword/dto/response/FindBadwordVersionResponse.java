@@ -0,0 +1,21 @@
+package com.coverflow.badword.dto.response;
+
+import java.time.LocalDateTime;
+
+public record FindBadwordVersionResponse(
+        long version,
+        int wordCount,
+        LocalDateTime compiledAt
+) {
+    public static FindBadwordVersionResponse of(
+            final long version,
+            final int wordCount,
+            final LocalDateTime compiledAt
+    ) {
+        return new FindBadwordVersionResponse(
+                version,
+                wordCount,
+                compiledAt
+        );
+    }
+}
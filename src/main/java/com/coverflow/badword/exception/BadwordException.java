@@ -0,0 +1,15 @@
+package com.coverflow.badword.exception;
+
+public class BadwordException extends RuntimeException {
+
+    public BadwordException(final String message) {
+        super(message);
+    }
+
+    public static class BadwordExistException extends BadwordException {
+
+        public BadwordExistException(final Object data) {
+            super(String.format("이미 등록된 비속어입니다. - request info => %s", data));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.coverflow.badword.infrastructure;
+
+import com.coverflow.badword.domain.Badword;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface BadwordRepository extends JpaRepository<Badword, Long> {
+
+    boolean existsByWord(final String word);
+
+    @Query("""
+            SELECT b.word
+            FROM Badword b
+            """)
+    List<String> findAllWords();
+
+    @Query("""
+            SELECT COALESCE(MAX(b.id), 0)
+            FROM Badword b
+            """)
+    long findVersion();
+}
@@ -0,0 +1,42 @@
+package com.coverflow.badword.presentation;
+
+import com.coverflow.badword.application.BadwordService;
+import com.coverflow.badword.dto.request.SaveBadwordRequest;
+import com.coverflow.badword.dto.response.FindBadwordVersionResponse;
+import com.coverflow.global.annotation.AdminAuthorize;
+import com.coverflow.global.handler.ResponseHandler;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RequestMapping("/api/badword")
+@RequiredArgsConstructor
+@RestController
+public class BadwordController {
+
+    private final BadwordService badwordService;
+
+    @GetMapping("/admin/version")
+    @AdminAuthorize
+    public ResponseEntity<ResponseHandler<FindBadwordVersionResponse>> findVersion() {
+        return ResponseEntity.ok()
+                .body(ResponseHandler.<FindBadwordVersionResponse>builder()
+                        .statusCode(HttpStatus.OK)
+                        .data(badwordService.findVersion())
+                        .build());
+    }
+
+    @PostMapping("/admin")
+    @AdminAuthorize
+    public ResponseEntity<ResponseHandler<Void>> save(
+            @RequestBody @Valid final SaveBadwordRequest request
+    ) {
+        badwordService.save(request);
+        return ResponseEntity.ok()
+                .body(ResponseHandler.<Void>builder()
+                        .statusCode(HttpStatus.CREATED)
+                        .build());
+    }
+}
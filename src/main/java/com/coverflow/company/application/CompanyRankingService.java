@@ -0,0 +1,109 @@
+package com.coverflow.company.application;
+
+import com.coverflow.company.domain.Company;
+import com.coverflow.company.domain.CompanyStatus;
+import com.coverflow.company.dto.CompanyQuestionCountDTO;
+import com.coverflow.company.dto.CompanyRankingDTO;
+import com.coverflow.company.dto.response.FindCompanyRankingResponse;
+import com.coverflow.company.infrastructure.CompanyRankingRepository;
+import com.coverflow.company.infrastructure.CompanyRepository;
+import com.coverflow.global.util.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.coverflow.company.exception.CompanyException.CompanyNotFoundException;
+import static com.coverflow.global.constant.Constant.LARGE_PAGE_SIZE;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class CompanyRankingService {
+
+    private final CompanyRepository companyRepository;
+    private final CompanyRankingRepository companyRankingRepository;
+
+    /**
+     * [질문 많은 기업 순위 조회 메서드]
+     * 정렬 쿼리 없이 메모리 랭킹에서 페이지 단위로 조회
+     */
+    public FindCompanyRankingResponse find(final int pageNo) {
+        int totalElements = companyRankingRepository.count();
+
+        return FindCompanyRankingResponse.of(
+                (totalElements + LARGE_PAGE_SIZE - 1) / LARGE_PAGE_SIZE,
+                totalElements,
+                companyRankingRepository.findAll(pageNo * LARGE_PAGE_SIZE, LARGE_PAGE_SIZE)
+        );
+    }
+
+    /**
+     * [특정 기업 순위 조회 메서드]
+     */
+    public CompanyRankingDTO findByCompanyId(final long companyId) {
+        return Optional.ofNullable(companyRankingRepository.findByCompanyId(companyId))
+                .orElseThrow(() -> new CompanyNotFoundException(companyId));
+    }
+
+    /**
+     * [기업 순위 갱신 메서드]
+     * 질문 수, 이름, 상태가 바뀔 때 호출 (등록 상태 기업만 순위에 포함, 커밋 후 반영)
+     */
+    public void save(final Company company) {
+        long companyId = company.getId();
+        if (!CompanyStatus.REGISTRATION.equals(company.getCompanyStatus())) {
+            delete(companyId);
+            return;
+        }
+
+        String companyName = company.getName();
+        int questionCount = company.getQuestionCount();
+        TransactionUtil.afterCommit(() -> save(companyId, companyName, questionCount));
+    }
+
+    /**
+     * [기업 순위 삭제 메서드]
+     * 커밋 후 반영
+     */
+    public void delete(final long companyId) {
+        TransactionUtil.afterCommit(() -> remove(companyId));
+    }
+
+    /**
+     * [기업 순위 재구성 메서드]
+     * 서버 시작 시 등록된 기업을 한 번의 스트리밍 조회로 읽어 랭킹을 다시 만든다.
+     * 재구성 중에 커밋된 변경은 재구성이 끝난 뒤 반영되도록 같은 잠금으로 직렬화한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        companyRankingRepository.deleteAll();
+
+        try (Stream<CompanyQuestionCountDTO> companies = companyRepository.findRegisteredCompanyQuestionCounts()) {
+            companies.forEach(company -> companyRankingRepository.save(
+                    company.getCompanyId(),
+                    company.getCompanyName(),
+                    company.getQuestionCount()
+            ));
+        }
+        log.info("기업 질문 수 랭킹 재구성 완료");
+    }
+
+    private synchronized void save(
+            final long companyId,
+            final String companyName,
+            final int questionCount
+    ) {
+        companyRankingRepository.save(companyId, companyName, questionCount);
+    }
+
+    private synchronized void remove(final long companyId) {
+        companyRankingRepository.delete(companyId);
+    }
+}
@@ -32,6 +32,8 @@ import static com.coverflow.global.util.PageUtil.generatePageDesc;
 public class CompanyService {
 
     private final QuestionService questionService;
+    private final CompanyStatisticsService companyStatisticsService;
+    private final CompanyRankingService companyRankingService;
     private final CompanyRepository companyRepository;
 
     /**
@@ -71,7 +73,12 @@ public class CompanyService {
 
         CompanyAndQuestionDTO questionList = questionService.findByCompanyId(pageNo, criterion, companyId);
 
-        return FindCompanyResponse.of(company, questionList.getTotalPages(), questionList.getQuestions());
+        return FindCompanyResponse.of(
+                company,
+                companyStatisticsService.findQuestionTagCounts(companyId),
+                questionList.getTotalPages(),
+                questionList.getQuestions()
+        );
     }
 
     /**
@@ -143,6 +150,7 @@ public class CompanyService {
                 .orElseThrow(() -> new CompanyNotFoundException(companyId));
 
         company.updateCompany(request);
+        companyRankingService.save(company);
     }
 
     /**
@@ -154,6 +162,8 @@ public class CompanyService {
                 .orElseThrow(() -> new CompanyNotFoundException(companyId));
 
         companyRepository.delete(company);
+        companyStatisticsService.delete(companyId);
+        companyRankingService.delete(companyId);
     }
 
     /**
@@ -0,0 +1,99 @@
+package com.coverflow.company.application;
+
+import com.coverflow.company.infrastructure.CompanyStatisticsRepository;
+import com.coverflow.global.util.TransactionUtil;
+import com.coverflow.question.domain.Question;
+import com.coverflow.question.domain.QuestionTag;
+import com.coverflow.question.infrastructure.QuestionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class CompanyStatisticsService {
+
+    private final QuestionRepository questionRepository;
+    private final CompanyStatisticsRepository companyStatisticsRepository;
+
+    /**
+     * [기업별 질문 태그 통계 조회 메서드]
+     * 메모리 집계 값만 읽으므로 추가 쿼리 없음
+     */
+    public Map<QuestionTag, Integer> findQuestionTagCounts(final long companyId) {
+        return companyStatisticsRepository.findByCompanyId(companyId);
+    }
+
+    /**
+     * [등록 질문 통계 증가 메서드]
+     * 질문 등록 또는 등록 상태로 변경 시 호출 (커밋 후 반영)
+     */
+    public void increase(final Question question) {
+        add(question, 1);
+    }
+
+    /**
+     * [등록 질문 통계 감소 메서드]
+     * 등록 질문 삭제 또는 등록 외 상태로 변경 시 호출 (커밋 후 반영)
+     */
+    public void decrease(final Question question) {
+        add(question, -1);
+    }
+
+    /**
+     * [기업 통계 삭제 메서드]
+     */
+    public void delete(final long companyId) {
+        TransactionUtil.afterCommit(() -> remove(companyId));
+    }
+
+    /**
+     * [통계 재집계 메서드]
+     * 서버 시작 시 GROUP BY 한 번으로 기업별 태그 통계를 다시 만든다.
+     * 재집계 중에 커밋된 변경은 재집계가 끝난 뒤 반영되도록 같은 잠금으로 직렬화한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        companyStatisticsRepository.deleteAll();
+        questionRepository.findRegisteredQuestionTagCounts().stream()
+                .filter(count -> count.getQuestionTag() != null)
+                .forEach(count -> companyStatisticsRepository.save(
+                        count.getCompanyId(),
+                        count.getQuestionTag(),
+                        count.getQuestionCount().intValue()
+                ));
+        log.info("기업별 질문 태그 통계 재집계 완료");
+    }
+
+    private void add(
+            final Question question,
+            final int delta
+    ) {
+        QuestionTag questionTag = question.getQuestionTag();
+        if (questionTag == null) {
+            return;
+        }
+
+        long companyId = question.getCompany().getId();
+        TransactionUtil.afterCommit(() -> add(companyId, questionTag, delta));
+    }
+
+    private synchronized void add(
+            final long companyId,
+            final QuestionTag questionTag,
+            final int delta
+    ) {
+        companyStatisticsRepository.add(companyId, questionTag, delta);
+    }
+
+    private synchronized void remove(final long companyId) {
+        companyStatisticsRepository.delete(companyId);
+    }
+}
@@ -0,0 +1,14 @@
+package com.coverflow.company.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompanyQuestionCountDTO {
+    private Long companyId;
+    private String companyName;
+    private Integer questionCount;
+}
@@ -0,0 +1,15 @@
+package com.coverflow.company.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompanyRankingDTO {
+    private int rank;
+    private long companyId;
+    private String companyName;
+    private int questionCount;
+}
@@ -0,0 +1,20 @@
+package com.coverflow.company.dto.response;
+
+import com.coverflow.company.dto.CompanyRankingDTO;
+
+import java.util.List;
+
+public record FindCompanyRankingResponse(
+        int totalPages,
+        long totalElements,
+        List<CompanyRankingDTO> companyList
+) {
+
+    public static FindCompanyRankingResponse of(
+            final int totalPages,
+            final long totalElements,
+            final List<CompanyRankingDTO> companyList
+    ) {
+        return new FindCompanyRankingResponse(totalPages, totalElements, companyList);
+    }
+}
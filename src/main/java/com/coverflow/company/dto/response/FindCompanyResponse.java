@@ -1,9 +1,11 @@
 package com.coverflow.company.dto.response;
 
 import com.coverflow.company.domain.Company;
+import com.coverflow.question.domain.QuestionTag;
 import com.coverflow.question.dto.QuestionDTO;
 
 import java.util.List;
+import java.util.Map;
 
 public record FindCompanyResponse(
         long companyId,
@@ -12,12 +14,14 @@ public record FindCompanyResponse(
         String companyAddress,
         String companyEstablishment,
         int questionCount,
+        Map<QuestionTag, Integer> questionTagCounts,
         int totalPages,
         List<QuestionDTO> questions
 ) {
 
     public static FindCompanyResponse of(
             final Company company,
+            final Map<QuestionTag, Integer> questionTagCounts,
             final int totalPages,
             final List<QuestionDTO> questions
     ) {
@@ -28,6 +32,7 @@ public record FindCompanyResponse(
                 company.getCity() + " " + company.getDistrict(),
                 company.getEstablishment(),
                 company.getQuestionCount(),
+                questionTagCounts,
                 totalPages,
                 questions
         );
@@ -0,0 +1,209 @@
+package com.coverflow.company.infrastructure;
+
+import com.coverflow.company.dto.CompanyRankingDTO;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 기업 질문 수 랭킹 저장소
+ * (질문 수 내림차순, 기업 id 오름차순)을 key로 하는 순서 통계 트립(treap)
+ * 노드마다 서브트리 크기를 두어 순위 조회와 N번째 조회를 O(log n)에 처리한다.
+ */
+@Repository
+public class CompanyRankingRepository {
+
+    private final Random random = new Random();
+    private final Map<Long, Node> nodeMap = new HashMap<>();
+    private Node root;
+
+    public synchronized void save(
+            final long companyId,
+            final String companyName,
+            final int questionCount
+    ) {
+        delete(companyId);
+
+        Node node = new Node(companyId, companyName, questionCount, random.nextInt());
+        Node[] split = split(root, node);
+        root = merge(merge(split[0], node), split[1]);
+        nodeMap.put(companyId, node);
+    }
+
+    /**
+     * offset 번째(0부터)부터 limit개의 기업을 순위 순으로 반환
+     */
+    public synchronized List<CompanyRankingDTO> findAll(
+            final int offset,
+            final int limit
+    ) {
+        List<CompanyRankingDTO> result = new ArrayList<>(Math.max(0, Math.min(limit, size(root) - offset)));
+        collect(root, offset, 0, limit, result);
+        return result;
+    }
+
+    public synchronized CompanyRankingDTO findByCompanyId(final long companyId) {
+        Node target = nodeMap.get(companyId);
+        if (target == null) {
+            return null;
+        }
+
+        int rank = 1;
+        Node node = root;
+        while (node != target) {
+            if (compare(target, node) < 0) {
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        rank += size(node.left);
+        return toDTO(node, rank);
+    }
+
+    public synchronized int count() {
+        return size(root);
+    }
+
+    public synchronized void delete(final long companyId) {
+        Node target = nodeMap.remove(companyId);
+        if (target != null) {
+            root = remove(root, target);
+        }
+    }
+
+    public synchronized void deleteAll() {
+        nodeMap.clear();
+        root = null;
+    }
+
+    private Node remove(
+            final Node node,
+            final Node target
+    ) {
+        if (node == target) {
+            return merge(node.left, node.right);
+        }
+        if (compare(target, node) < 0) {
+            node.left = remove(node.left, target);
+        } else {
+            node.right = remove(node.right, target);
+        }
+        node.update();
+        return node;
+    }
+
+    // node보다 앞선 노드들과 나머지 노드들로 분리
+    private Node[] split(
+            final Node node,
+            final Node pivot
+    ) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(node, pivot) < 0) {
+            Node[] split = split(node.right, pivot);
+            node.right = split[0];
+            node.update();
+            return new Node[]{node, split[1]};
+        }
+        Node[] split = split(node.left, pivot);
+        node.left = split[1];
+        node.update();
+        return new Node[]{split[0], node};
+    }
+
+    private Node merge(
+            final Node left,
+            final Node right
+    ) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private void collect(
+            final Node node,
+            final int offset,
+            final int base,
+            final int limit,
+            final List<CompanyRankingDTO> result
+    ) {
+        if (node == null || result.size() >= limit) {
+            return;
+        }
+
+        int leftSize = size(node.left);
+        if (offset < leftSize) {
+            collect(node.left, offset, base, limit, result);
+        }
+        if (result.size() < limit && offset <= leftSize) {
+            result.add(toDTO(node, base + leftSize + 1));
+        }
+        collect(node.right, Math.max(0, offset - leftSize - 1), base + leftSize + 1, limit, result);
+    }
+
+    private int compare(
+            final Node node,
+            final Node other
+    ) {
+        if (node.questionCount != other.questionCount) {
+            return Integer.compare(other.questionCount, node.questionCount);
+        }
+        return Long.compare(node.companyId, other.companyId);
+    }
+
+    private static int size(final Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private CompanyRankingDTO toDTO(
+            final Node node,
+            final int rank
+    ) {
+        return new CompanyRankingDTO(rank, node.companyId, node.companyName, node.questionCount);
+    }
+
+    private static class Node {
+
+        private final long companyId;
+        private final String companyName;
+        private final int questionCount;
+        private final int priority;
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(
+                final long companyId,
+                final String companyName,
+                final int questionCount,
+                final int priority
+        ) {
+            this.companyId = companyId;
+            this.companyName = companyName;
+            this.questionCount = questionCount;
+            this.priority = priority;
+        }
+
+        private void update() {
+            size = 1 + size(left) + size(right);
+        }
+    }
+}
@@ -2,15 +2,22 @@ package com.coverflow.company.infrastructure;
 
 import com.coverflow.company.domain.Company;
 import com.coverflow.company.domain.CompanyStatus;
+import com.coverflow.company.dto.CompanyQuestionCountDTO;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.coverflow.global.constant.Constant.STREAMING_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface CompanyRepository extends JpaRepository<Company, Long> {
 
@@ -51,6 +58,14 @@ public interface CompanyRepository extends JpaRepository<Company, Long> {
             @Param("companyStatus") final CompanyStatus companyStatus
     );
 
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE))
+    @Query("""
+            SELECT new com.coverflow.company.dto.CompanyQuestionCountDTO(c.id, c.name, c.questionCount)
+            FROM Company c
+            WHERE c.companyStatus = 'REGISTRATION'
+            """)
+    Stream<CompanyQuestionCountDTO> findRegisteredCompanyQuestionCounts();
+
     @Modifying
     @Query("""
             DELETE FROM Company c
@@ -0,0 +1,59 @@
+package com.coverflow.company.infrastructure;
+
+import com.coverflow.question.domain.QuestionTag;
+import org.springframework.stereotype.Repository;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 기업별 질문 태그 통계 저장소
+ * 기업 id -> 태그별 등록 질문 수 (QuestionTag ordinal 순서)
+ */
+@Repository
+public class CompanyStatisticsRepository {
+
+    private static final QuestionTag[] QUESTION_TAGS = QuestionTag.values();
+
+    private final Map<Long, AtomicIntegerArray> questionTagCountMap = new ConcurrentHashMap<>();
+
+    public void save(
+            final long companyId,
+            final QuestionTag questionTag,
+            final int questionCount
+    ) {
+        counts(companyId).set(questionTag.ordinal(), questionCount);
+    }
+
+    public void add(
+            final long companyId,
+            final QuestionTag questionTag,
+            final int delta
+    ) {
+        counts(companyId).addAndGet(questionTag.ordinal(), delta);
+    }
+
+    public Map<QuestionTag, Integer> findByCompanyId(final long companyId) {
+        Map<QuestionTag, Integer> questionTagCounts = new EnumMap<>(QuestionTag.class);
+        AtomicIntegerArray counts = questionTagCountMap.get(companyId);
+
+        for (QuestionTag questionTag : QUESTION_TAGS) {
+            questionTagCounts.put(questionTag, counts == null ? 0 : Math.max(0, counts.get(questionTag.ordinal())));
+        }
+        return questionTagCounts;
+    }
+
+    public void delete(final long companyId) {
+        questionTagCountMap.remove(companyId);
+    }
+
+    public void deleteAll() {
+        questionTagCountMap.clear();
+    }
+
+    private AtomicIntegerArray counts(final long companyId) {
+        return questionTagCountMap.computeIfAbsent(companyId, key -> new AtomicIntegerArray(QUESTION_TAGS.length));
+    }
+}
@@ -1,10 +1,13 @@
 package com.coverflow.company.presentation;
 
+import com.coverflow.company.application.CompanyRankingService;
 import com.coverflow.company.application.CompanyService;
 import com.coverflow.company.domain.CompanyStatus;
+import com.coverflow.company.dto.CompanyRankingDTO;
 import com.coverflow.company.dto.request.SaveCompanyRequest;
 import com.coverflow.company.dto.request.UpdateCompanyRequest;
 import com.coverflow.company.dto.response.FindAllCompaniesResponse;
+import com.coverflow.company.dto.response.FindCompanyRankingResponse;
 import com.coverflow.company.dto.response.FindCompanyResponse;
 import com.coverflow.company.dto.response.SearchCompanyResponse;
 import com.coverflow.global.annotation.AdminAuthorize;
@@ -25,6 +28,7 @@ import org.springframework.web.bind.annotation.*;
 public class CompanyController {
 
     private final CompanyService companyService;
+    private final CompanyRankingService companyRankingService;
 
     @GetMapping
     public ResponseEntity<ResponseHandler<SearchCompanyResponse>> search(
@@ -53,6 +57,30 @@ public class CompanyController {
                 );
     }
 
+    @GetMapping("/ranking")
+    public ResponseEntity<ResponseHandler<FindCompanyRankingResponse>> findRanking(
+            @RequestParam @PositiveOrZero final int pageNo
+    ) {
+        return ResponseEntity.ok()
+                .body(ResponseHandler.<FindCompanyRankingResponse>builder()
+                        .statusCode(HttpStatus.OK)
+                        .data(companyRankingService.find(pageNo))
+                        .build()
+                );
+    }
+
+    @GetMapping("/{companyId}/ranking")
+    public ResponseEntity<ResponseHandler<CompanyRankingDTO>> findRankingByCompanyId(
+            @PathVariable @Positive final long companyId
+    ) {
+        return ResponseEntity.ok()
+                .body(ResponseHandler.<CompanyRankingDTO>builder()
+                        .statusCode(HttpStatus.OK)
+                        .data(companyRankingService.findByCompanyId(companyId))
+                        .build()
+                );
+    }
+
     @GetMapping("/admin")
     @AdminAuthorize
     public ResponseEntity<ResponseHandler<FindAllCompaniesResponse>> find(
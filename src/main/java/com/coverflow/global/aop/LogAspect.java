@@ -1,21 +1,47 @@
 package com.coverflow.global.aop;
 
+import com.coverflow.global.metric.MethodMetric;
+import com.coverflow.global.metric.MetricRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.*;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * 메서드 추적 AOP
+ * 컨트롤러/서비스/Spring Data 리포지토리 메서드의 호출 수, 예외 수, 지연 시간(샘플링)을
+ * 메서드별 지표(MetricRegistry)에 기록하고, 느린 호출과 컨트롤러 예외만 로그로 남긴다. (logback-spring.xml의 비동기 appender)
+ * 인자는 기본적으로 타입과 길이만 남기고 값은 가린다. (토큰, 본문 유출 방지)
+ */
 @Slf4j
+@RequiredArgsConstructor
 @Component
 @Aspect
 public class LogAspect {
 
-//    @Pointcut("execution(* com.coverflow..*(..))")
-//    public void all() {
-//    }
+    private static final int MAX_ARGUMENT_LENGTH = 100;
+
+    private final MetricRegistry metricRegistry;
+    private final Map<MetricKey, MethodMetric> metrics = new ConcurrentHashMap<>();
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Value("${tracing.sample-rate:1.0}")
+    private double sampleRate; // 히스토그램 기록 비율 (0~1)
+    @Value("${tracing.slow-threshold-ms:500}")
+    private long slowThresholdMillis; // 이 시간 이상 걸린 호출만 로그
+    @Value("${tracing.redact-arguments:true}")
+    private boolean redactArguments; // false면 인자 값을 잘라서 로그
 
     @Pointcut("execution(* com.coverflow..*Controller.*(..))")
     public void controller() {
@@ -25,59 +51,109 @@ public class LogAspect {
     public void service() {
     }
 
-//    @Around("all()")
-//    public Object logging(ProceedingJoinPoint joinPoint) throws Throwable {
-//        long start = System.currentTimeMillis();
-//        try {
-//            return joinPoint.proceed();
-//        } finally {
-//            long finish = System.currentTimeMillis();
-//            long timeMs = finish - start;
-//            log.info("log = {}", joinPoint.getSignature());
-//            log.info("timeMs = {}", timeMs);
-//        }
-//    }
-
-    // 특정 조인포인트에서 수행될 부가기능을 정리
-    @Before("controller() || service()")
-    public void beforeLogic(final JoinPoint joinPoint) {
-        Method method = getMethod(joinPoint);
-        log.info("====== method = {} ======", method.getName());
-
-        Object[] args = joinPoint.getArgs();
-        for (Object arg : args) {
-            if (arg != null) {
-                log.info("parameter type = {}", arg.getClass().getSimpleName());
-                log.info("parameter value = {}", arg);
+    // Spring Data 리포지토리 인터페이스(JDK 프록시)만 대상, 메모리 저장소 클래스는 제외
+    @Pointcut("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public void repository() {
+    }
+
+    @Around("controller() || service() || repository()")
+    public Object trace(final ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            afterTrace(joinPoint, System.nanoTime() - start, false);
+            return result;
+        } catch (Throwable e) {
+            afterTrace(joinPoint, System.nanoTime() - start, true);
+            if (isController(joinPoint)) {
+                log.error("### Occured error in request {} args = {} - {}",
+                        joinPoint.getSignature().toShortString(), describe(joinPoint.getArgs()), e.getMessage());
             }
+            throw e;
+        }
+    }
+
+    private void afterTrace(
+            final ProceedingJoinPoint joinPoint,
+            final long elapsedNanos,
+            final boolean error
+    ) {
+        boolean sampled = sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+        // 상속 메서드(save 등)는 Method가 같으므로 프록시 클래스까지 함께 키로 쓴다.
+        metrics.computeIfAbsent(new MetricKey(joinPoint.getThis().getClass(), getMethod(joinPoint)), this::createMetric)
+                .record(elapsedNanos, error, sampled);
+
+        long elapsedMillis = elapsedNanos / 1_000_000;
+        if (elapsedMillis >= slowThresholdMillis) {
+            log.warn("느린 호출 {} {}ms args = {}",
+                    joinPoint.getSignature().toShortString(), elapsedMillis, describe(joinPoint.getArgs()));
+        }
+    }
+
+    // controller.클래스.메서드 / service.클래스.메서드 / repository.리포지토리.메서드
+    private MethodMetric createMetric(final MetricKey key) {
+        Method method = key.method();
+        String className = method.getDeclaringClass().getSimpleName();
+        if (className.endsWith("Controller")) {
+            return metricRegistry.metric("controller." + className + "." + method.getName());
         }
+        if (className.endsWith("Service")) {
+            return metricRegistry.metric("service." + className + "." + method.getName());
+        }
+        return metricRegistry.metric("repository." + findRepositoryName(key.type()) + "." + method.getName());
     }
 
-    @AfterReturning("controller() || service()")
-    public void afterLogic(final JoinPoint joinPoint) {
-        Method method = getMethod(joinPoint);
-        log.info("====== method = {} ======", method.getName());
+    // save(), findById() 같은 상속 메서드도 JpaRepository가 아닌 실제 리포지토리 인터페이스 이름으로 기록
+    private String findRepositoryName(final Class<?> proxyClass) {
+        return repositoryNames.computeIfAbsent(proxyClass, key -> {
+            for (Class<?> type : key.getInterfaces()) {
+                if (type.getName().startsWith("com.coverflow.")) {
+                    return type.getSimpleName();
+                }
+            }
+            return key.getSimpleName();
+        });
+    }
 
-        Object[] args = joinPoint.getArgs();
+    private record MetricKey(
+            Class<?> type,
+            Method method
+    ) {
+    }
+
+    // 인자 요약 (가림 모드: 타입과 길이만)
+    private String describe(final Object[] args) {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
         for (Object arg : args) {
-            if (arg != null) {
-                log.info("return type = {}", arg.getClass().getSimpleName());
-                log.info("return value = {}", arg);
+            joiner.add(describe(arg));
+        }
+        return joiner.toString();
+    }
+
+    private String describe(final Object arg) {
+        if (arg == null) {
+            return "null";
+        }
+        if (arg instanceof Number || arg instanceof Boolean || arg instanceof Enum<?>) {
+            return String.valueOf(arg);
+        }
+        if (redactArguments) {
+            if (arg instanceof CharSequence text) {
+                return "String(" + text.length() + ")";
             }
+            return arg.getClass().getSimpleName();
         }
+
+        String value = String.valueOf(arg);
+        return value.length() > MAX_ARGUMENT_LENGTH ? value.substring(0, MAX_ARGUMENT_LENGTH) + "..." : value;
     }
 
-    @AfterThrowing(pointcut = "controller()", throwing = "e")
-    public void afterThrowingLogging(
-            final JoinPoint joinPoint,
-            final Exception e
-    ) {
-        log.error("### Occured error in request {}", joinPoint.getSignature().toShortString());
-        log.error("{}", e.getMessage());
+    private boolean isController(final ProceedingJoinPoint joinPoint) {
+        return joinPoint.getSignature().getDeclaringTypeName().endsWith("Controller");
     }
 
     // JoinPoint로 메서드 정보 가져오기
-    private Method getMethod(final JoinPoint joinPoint) {
+    private Method getMethod(final ProceedingJoinPoint joinPoint) {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
         return signature.getMethod();
     }
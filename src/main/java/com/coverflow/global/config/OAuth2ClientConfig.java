@@ -0,0 +1,34 @@
+package com.coverflow.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
+import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
+import org.springframework.web.client.RestTemplate;
+
+@Configuration
+public class OAuth2ClientConfig {
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 3_000;
+    private static final int READ_TIMEOUT_MILLIS = 5_000;
+
+    /**
+     * 소셜 로그인 사용자 정보 조회 클라이언트
+     * 로그인마다 새로 만들지 않고 하나의 RestTemplate을 공유한다.
+     * (HttpURLConnection의 keep-alive 커넥션 재사용 + 연결/읽기 타임아웃)
+     */
+    @Bean
+    public DefaultOAuth2UserService defaultOAuth2UserService() {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+        requestFactory.setReadTimeout(READ_TIMEOUT_MILLIS);
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.setErrorHandler(new OAuth2ErrorResponseErrorHandler());
+
+        DefaultOAuth2UserService defaultOAuth2UserService = new DefaultOAuth2UserService();
+        defaultOAuth2UserService.setRestOperations(restTemplate);
+        return defaultOAuth2UserService;
+    }
+}
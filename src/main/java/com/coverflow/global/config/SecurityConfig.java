@@ -9,7 +9,10 @@ import com.coverflow.global.login.service.LoginService;
 import com.coverflow.global.oauth2.handler.OAuth2LoginFailureHandler;
 import com.coverflow.global.oauth2.handler.OAuth2LoginSuccessHandler;
 import com.coverflow.global.oauth2.service.CustomOAuth2UserService;
+import com.coverflow.member.application.AuthMemberService;
+import com.coverflow.member.application.RefreshTokenService;
 import com.coverflow.member.infrastructure.MemberRepository;
+import com.coverflow.visitor.application.UniqueVisitorService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -28,6 +31,11 @@ import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.Arrays;
 
 @RequiredArgsConstructor
 @Configuration
@@ -41,11 +49,15 @@ public class SecurityConfig {
             "/api/auth/token",
             "/api/company",
             "/api/company/{companyId}",
+            "/api/company/{companyId}/ranking",
             "/api/question/{questionId}",
             "/api/feedback"
     };
     private final LoginService loginService;
     private final JwtService jwtService;
+    private final AuthMemberService authMemberService;
+    private final RefreshTokenService refreshTokenService;
+    private final UniqueVisitorService uniqueVisitorService;
     private final MemberRepository memberRepository;
     private final ObjectMapper objectMapper;
     private final OAuth2LoginSuccessHandler oAuth2LoginSuccessHandler;
@@ -117,7 +129,7 @@ public class SecurityConfig {
     @Bean
     public LoginSuccessHandler loginSuccessHandler(
     ) {
-        return new LoginSuccessHandler(jwtService, memberRepository);
+        return new LoginSuccessHandler(jwtService, refreshTokenService, memberRepository);
     }
 
     /**
@@ -149,7 +161,16 @@ public class SecurityConfig {
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter(
     ) {
-        return new JwtAuthenticationFilter(jwtService, memberRepository);
+        return new JwtAuthenticationFilter(
+                jwtService,
+                authMemberService,
+                refreshTokenService,
+                uniqueVisitorService,
+                new OrRequestMatcher(Arrays.stream(ALLOWED_URLS)
+                        .map(AntPathRequestMatcher::antMatcher)
+                        .toArray(RequestMatcher[]::new)),
+                objectMapper
+        );
     }
 
 }
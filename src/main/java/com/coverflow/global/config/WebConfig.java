@@ -1,15 +1,21 @@
 package com.coverflow.global.config;
 
+import com.coverflow.global.interceptor.TrafficMetricInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+@RequiredArgsConstructor
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
     public static final String ALLOWED_METHOD_NAMES = "GET,HEAD,POST,PUT,DELETE,TRACE,OPTIONS,PATCH";
 
+    private final TrafficMetricInterceptor trafficMetricInterceptor;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         // 모든 uri에 대해 특정 도메인은 접근을 허용한다.
@@ -19,4 +25,11 @@ public class WebConfig implements WebMvcConfigurer {
                 .exposedHeaders("Authorization", "Authorization-refresh", HttpHeaders.LOCATION)
                 .allowCredentials(true);
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // API 요청 수를 분 단위 트래픽 지표로 기록한다.
+        registry.addInterceptor(trafficMetricInterceptor)
+                .addPathPatterns("/api/**");
+    }
 }
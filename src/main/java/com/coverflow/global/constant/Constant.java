@@ -4,4 +4,5 @@ public class Constant {
     public static final int SMALL_PAGE_SIZE = 3;
     public static final int NORMAL_PAGE_SIZE = 5;
     public static final int LARGE_PAGE_SIZE = 10;
+    public static final String STREAMING_FETCH_SIZE = "-2147483648"; // MySQL 커넥터 행 단위 스트리밍 (Integer.MIN_VALUE)
 }
@@ -0,0 +1,7 @@
+package com.coverflow.global.datasource;
+
+public enum DataSourceType {
+
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,92 @@
+package com.coverflow.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 분리 라우팅 DataSource
+ * readOnly 트랜잭션은 레플리카로, 나머지는 프라이머리로 보낸다.
+ * 레플리카가 죽었거나 복제 지연이 기준을 넘으면 모든 요청을 프라이머리로 보낸다.
+ */
+@Slf4j
+public class RoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource replicaDataSource;
+    private final long maxLagSeconds;
+    private volatile boolean replicaAvailable = false;
+
+    public RoutingDataSource(
+            final DataSource primaryDataSource,
+            final DataSource replicaDataSource,
+            final long maxLagSeconds
+    ) {
+        this.replicaDataSource = replicaDataSource;
+        this.maxLagSeconds = maxLagSeconds;
+        setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primaryDataSource,
+                DataSourceType.REPLICA, replicaDataSource
+        ));
+        setDefaultTargetDataSource(primaryDataSource);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaAvailable && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return DataSourceType.REPLICA;
+        }
+        return DataSourceType.PRIMARY;
+    }
+
+    /**
+     * [레플리카 상태 확인 메서드]
+     * 연결 유효성과 복제 지연(Seconds_Behind_Source)을 주기적으로 확인
+     */
+    @Scheduled(fixedDelay = 5000)
+    public void checkReplica() {
+        boolean available = isReplicaHealthy();
+        if (available != replicaAvailable) {
+            log.warn("레플리카 라우팅 {}", available ? "재개" : "중단 (프라이머리로 대체)");
+        }
+        replicaAvailable = available;
+    }
+
+    private boolean isReplicaHealthy() {
+        try (Connection connection = replicaDataSource.getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                return false;
+            }
+            return isLagAcceptable(connection);
+        } catch (SQLException e) {
+            log.debug("레플리카 연결 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isLagAcceptable(final Connection connection) {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!resultSet.next()) {
+                return true; // 복제 설정이 없는 단일 DB
+            }
+
+            long lag = resultSet.getLong("Seconds_Behind_Source");
+            // NULL = 복제 스레드 중단
+            return !resultSet.wasNull() && lag <= maxLagSeconds;
+        } catch (SQLException e) {
+            // 권한이 없거나 MySQL이 아닌 경우 지연은 확인하지 않는다.
+            log.debug("레플리카 복제 지연 확인 불가: {}", e.getMessage());
+            return true;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.coverflow.global.handler;
 
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.coverflow.global.util.NicknameUtil;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -14,18 +16,21 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 import java.time.DateTimeException;
 import java.util.Random;
 
+import static com.coverflow.badword.exception.BadwordException.BadwordExistException;
 import static com.coverflow.company.exception.CompanyException.CompanyExistException;
 import static com.coverflow.company.exception.CompanyException.CompanyNotFoundException;
 import static com.coverflow.global.exception.GlobalException.ExistBadwordException;
+import static com.coverflow.global.exception.GlobalException.LogoutMemberException;
+import static com.coverflow.global.exception.GlobalException.TokenValidationException;
 import static com.coverflow.inquiry.exception.InquiryException.InquiryNotFoundException;
 import static com.coverflow.member.exception.MemberException.*;
 import static com.coverflow.notification.exception.NotificationException.NotificationNotFoundException;
-import static com.coverflow.question.exception.AnswerException.AnswerExistException;
-import static com.coverflow.question.exception.AnswerException.AnswerNotFoundException;
+import static com.coverflow.question.exception.AnswerException.*;
 import static com.coverflow.question.exception.QuestionException.QuestionExistException;
 import static com.coverflow.question.exception.QuestionException.QuestionNotFoundException;
 import static com.coverflow.report.exception.ReportException.ReportNotFoundException;
 import static com.coverflow.visitor.exception.VisitorException.DayNotFoundException;
+import static com.coverflow.visitor.exception.VisitorException.InvalidPeriodException;
 
 @Slf4j
 @RestControllerAdvice
@@ -81,6 +86,23 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse("액세스 토큰이 유효하지 않습니다."));
     }
 
+    @ExceptionHandler(TokenValidationException.class)
+    public ResponseEntity<ErrorResponse> handleTokenValidationException(final TokenValidationException exception) {
+        log.warn(exception.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.UNAUTHORIZED)
+                .body(new ErrorResponse(exception.getMessage()));
+    }
+
+    @ExceptionHandler(LogoutMemberException.class)
+    public ResponseEntity<ErrorResponse> handleLogoutMemberException(final LogoutMemberException exception) {
+        log.warn(exception.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.FORBIDDEN)
+                .body(new ErrorResponse(exception.getMessage()));
+    }
 
     @ExceptionHandler(value = {
             CompanyNotFoundException.class,
@@ -105,7 +127,8 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(value = {
             CompanyExistException.class,
             QuestionExistException.class,
-            AnswerExistException.class
+            AnswerExistException.class,
+            BadwordExistException.class
     })
     public ResponseEntity<ErrorResponse> handleExistException(final RuntimeException exception) {
         String message = exception.getMessage();
@@ -116,11 +139,27 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(message));
     }
 
+    // 닉네임 유니크 인덱스 충돌 (다른 서버와 같은 닉네임을 동시에 할당한 경우), 나머지 제약 조건 위반은 서버 오류로 처리
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(final DataIntegrityViolationException exception) {
+        if (!NicknameUtil.isNicknameConflict(exception)) {
+            return handleRuntimeException(exception);
+        }
+        log.warn(exception.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse("이미 사용 중인 닉네임입니다. 다시 시도해 주세요."));
+    }
+
     // 커스텀 예외 사용 시
     @ExceptionHandler(value = {
             SuspendedMembershipException.class,
             NotEnoughCurrencyException.class,
-            ExistBadwordException.class
+            ExistBadwordException.class,
+            AnswerSelectionException.class,
+            SelectionCancelException.class,
+            InvalidPeriodException.class
     })
     public ResponseEntity<ErrorResponse> handleCustomBadRequestException(final RuntimeException exception) {
         String message = exception.getMessage();
@@ -0,0 +1,29 @@
+package com.coverflow.global.interceptor;
+
+import com.coverflow.visitor.application.TrafficMetricService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 트래픽 지표 인터셉터
+ * 요청마다 메모리 카운터만 증가시키고, DB 반영은 TrafficMetricService.flush()에서 한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class TrafficMetricInterceptor implements HandlerInterceptor {
+
+    private final TrafficMetricService trafficMetricService;
+
+    @Override
+    public boolean preHandle(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final Object handler
+    ) {
+        trafficMetricService.recordRequest();
+        return true;
+    }
+}
@@ -0,0 +1,57 @@
+package com.coverflow.global.jwt.authentication;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * JWT 인증 객체
+ * 검증된 토큰으로만 생성되므로 항상 인증된 상태이며, 자격 증명은 보관하지 않는다.
+ */
+public class MemberAuthentication implements Authentication {
+
+    private final MemberPrincipal principal;
+
+    public MemberAuthentication(final MemberPrincipal principal) {
+        this.principal = principal;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return principal.getAuthorities();
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public MemberPrincipal getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return true;
+    }
+
+    @Override
+    public void setAuthenticated(final boolean isAuthenticated) {
+        if (isAuthenticated) {
+            return;
+        }
+        throw new IllegalArgumentException("JWT 인증 객체는 인증 상태를 변경할 수 없습니다.");
+    }
+
+    @Override
+    public String getName() {
+        return principal.getUsername();
+    }
+}
@@ -0,0 +1,82 @@
+package com.coverflow.global.jwt.authentication;
+
+import com.coverflow.member.domain.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JWT 인증 회원 정보
+ * 권한 목록은 Role마다 한 번만 만들어 모든 요청이 공유한다.
+ * 소셜 로그인 회원은 비밀번호가 없으므로 password는 null
+ */
+public class MemberPrincipal implements UserDetails {
+
+    private static final Map<Role, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(Role.class);
+
+    static {
+        for (Role role : Role.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.getKey())));
+        }
+    }
+
+    private final UUID memberId;
+    private final Role role;
+
+    public MemberPrincipal(
+            final UUID memberId,
+            final Role role
+    ) {
+        this.memberId = memberId;
+        this.role = role;
+    }
+
+    public UUID getMemberId() {
+        return memberId;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AUTHORITIES.get(role);
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return memberId.toString();
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
@@ -2,12 +2,15 @@ package com.coverflow.global.jwt.filter;
 
 import com.coverflow.global.exception.GlobalException;
 import com.coverflow.global.handler.ErrorResponse;
+import com.coverflow.global.jwt.authentication.MemberAuthentication;
+import com.coverflow.global.jwt.authentication.MemberPrincipal;
 import com.coverflow.global.jwt.service.JwtService;
-import com.coverflow.global.util.PasswordUtil;
-import com.coverflow.member.domain.Member;
+import com.coverflow.member.application.AuthMemberService;
+import com.coverflow.member.application.RefreshTokenService;
 import com.coverflow.member.domain.MemberStatus;
 import com.coverflow.member.domain.RefreshTokenStatus;
-import com.coverflow.member.infrastructure.MemberRepository;
+import com.coverflow.member.dto.AuthMemberDTO;
+import com.coverflow.visitor.application.UniqueVisitorService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -17,15 +20,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.mapping.GrantedAuthoritiesMapper;
-import org.springframework.security.core.authority.mapping.NullAuthoritiesMapper;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.util.function.SingletonSupplier;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * Jwt 인증 필터
@@ -34,9 +37,10 @@ import java.io.IOException;
  * 기본적으로 사용자는 요청 헤더에 AccessToken만 담아서 요청
  * AccessToken 만료 시에만 RefreshToken을 요청 헤더에 AccessToken과 함께 요청
  * <p>
+ * 0. 인증 없이 허용된 URL -> 인증 정보가 실제로 필요할 때만 AccessToken 검증 (지연 처리)
  * 1. RefreshToken이 없고, AccessToken이 유효한 경우 -> 증 성공 처리, RefreshToken을 재발급하지는 않는다.
  * 2. RefreshToken이 없고, AccessToken이 없거나 유효하지 않은 경우 -> 인증 실패 처리, 403 ERROR
- * 3. RefreshToken이 있는 경우 -> DB의 RefreshToken과 비교하여 일치하면 AccessToken 재발급, RefreshToken 재발급(RTR 방식)
+ * 3. RefreshToken이 있는 경우 -> DB에 저장된 RefreshToken 해시와 비교하여 일치하면 AccessToken 재발급, RefreshToken 재발급(RTR 방식)
  * 인증 성공 처리는 하지 않고 실패 처리
  */
 @Slf4j
@@ -44,9 +48,13 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final String NO_CHECK_URL = "/login"; // "/login"으로 들어오는 요청은 Filter 작동 X
+    private static final String REISSUE_URL = "/api/auth/reissue";
     private final JwtService jwtService;
-    private final MemberRepository memberRepository;
-    private final GrantedAuthoritiesMapper authoritiesMapper = new NullAuthoritiesMapper();
+    private final AuthMemberService authMemberService;
+    private final RefreshTokenService refreshTokenService;
+    private final UniqueVisitorService uniqueVisitorService;
+    private final RequestMatcher permitAllMatcher; // SecurityConfig.ALLOWED_URLS로 미리 만든 매처
+    private final ObjectMapper objectMapper;
 
     @Override
     protected void doFilterInternal(
@@ -54,31 +62,38 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             final HttpServletResponse response,
             final FilterChain filterChain
     ) throws ServletException, IOException {
-        log.info("요청 URL: {}", request.getRequestURI() + "?" + request.getQueryString());
-        log.info("요청 Method: {}", request.getMethod());
+        log.debug("요청 {} {}", request.getMethod(), request.getRequestURI());
         if (request.getRequestURI().equals(NO_CHECK_URL)) {
             filterChain.doFilter(request, response); // "/login" 요청이 들어오면, 다음 필터 호출
             return; // return으로 이후 현재 필터 진행 막기 (안해주면 아래로 내려가서 계속 필터 진행시킴)
         }
 
-        // 사용자 요청 헤더에서 RefreshToken 추출
-        // -> RefreshToken이 없거나 유효하지 않다면(DB에 저장된 RefreshToken과 다르다면) null을 반환
-        // 사용자의 요청 헤더에 RefreshToken이 있는 경우는, AccessToken이 만료되어 요청한 경우밖에 없다.
-        // 따라서, 위의 경우를 제외하면 추출한 refreshToken은 모두 null
-        String refreshToken = jwtService.extractRefreshToken(request)
-                .filter(jwtService::isTokenValid)
-                .orElse(null);
-
-        // 리프레시 토큰이 요청 헤더에 존재했다면, 사용자가 AccessToken이 만료되어서
-        // RefreshToken까지 보낸 것이므로 리프레시 토큰이 DB의 리프레시 토큰과 일치하는지 판단 후,
-        // 일치한다면 AccessToken을 재발급해준다.
-        if (refreshToken != null && ("/api/auth/reissue").equals(request.getRequestURI())) {
-            log.info("리프레쉬 토큰 존재");
-            checkRefreshTokenAndReIssueAccessToken(response, refreshToken);
-            return; // RefreshToken을 보낸 경우에는 AccessToken을 재발급 하고 인증 처리는 하지 않게 하기위해 바로 return으로 필터 진행 막기
+        // 사용자 요청 헤더에 RefreshToken이 있는 경우는, AccessToken이 만료되어 재발급을 요청한 경우밖에 없다.
+        // 따라서, 재발급 요청일 때만 RefreshToken을 추출하고 검증한다.
+        // 리프레시 토큰이 DB의 리프레시 토큰과 일치하는지 판단 후, 일치한다면 AccessToken을 재발급해준다.
+        if (REISSUE_URL.equals(request.getRequestURI())) {
+            String refreshToken = jwtService.extractRefreshToken(request)
+                    .orElse(null);
+
+            if (refreshToken != null) {
+                log.debug("리프레쉬 토큰 존재");
+                jwtService.verifyToken(refreshToken); // 서명, 만료 시간 검증 (유효하지 않으면 TokenValidationException)
+                checkRefreshTokenAndReIssueAccessToken(response, refreshToken);
+                return; // RefreshToken을 보낸 경우에는 AccessToken을 재발급 하고 인증 처리는 하지 않게 하기위해 바로 return으로 필터 진행 막기
+            }
         }
 
-        // RefreshToken이 없거나 유효하지 않다면, AccessToken을 검사하고 인증을 처리하는 로직 수행
+        // 인증 없이 허용된 URL이면 토큰 검증과 회원 조회를 미룬다.
+        // 컨트롤러나 @PreAuthorize가 실제로 인증 정보를 꺼낼 때만 한 번 처리되므로 익명/공개 요청은 JWT 파싱을 하지 않는다.
+        if (permitAllMatcher.matches(request)) {
+            if (jwtService.extractAccessToken(request).isPresent()) {
+                SecurityContextHolder.setDeferredContext(SingletonSupplier.of(() -> createSecurityContext(request)));
+            }
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // AccessToken을 검사하고 인증을 처리하는 로직 수행
         // AccessToken이 없거나 유효하지 않다면, 인증 객체가 담기지 않은 상태로 다음 필터로 넘어가기 때문에 403 에러 발생
         // AccessToken이 유효하다면, 인증 객체가 담긴 상태로 다음 필터로 넘어가기 때문에 인증 성공
         checkAccessTokenAndAuthentication(request, response, filterChain);
@@ -86,47 +101,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     /**
      * [리프레시 토큰으로 유저 정보 찾기 & 액세스 토큰/리프레시 토큰 재발급 메소드]
-     * 파라미터로 들어온 헤더에서 추출한 리프레시 토큰으로 DB에서 유저를 찾고,
-     * 해당 유저가 존재하면서 로그아웃 상태가 아니면
-     * JwtService.createAccessToken()으로 AccessToken 생성,
-     * reIssueRefreshToken()로 리프레시 토큰 재발급 & DB에 리프레시 토큰 업데이트 메소드 호출
+     * 새 리프레시 토큰을 만든 뒤 refreshTokenService.rotate()로 해시 인덱스 조회 + 조건부 교체를 한 번에 수행하고,
+     * 교체에 성공한 회원이 존재하면서 로그아웃 상태가 아니면
+     * JwtService.createAccessToken()으로 AccessToken 생성
      * 그 후 JwtService.sendAccessTokenAndRefreshToken()으로 응답 헤더에 보내기
      */
     public void checkRefreshTokenAndReIssueAccessToken(
             final HttpServletResponse response,
             final String refreshToken
-    ) {
-        memberRepository.findByRefreshToken(refreshToken)
-                .ifPresent(user -> {
-                    if ((RefreshTokenStatus.LOGIN).equals(user.getRefreshTokenStatus())) {
-                        jwtService.sendAccessAndRefreshToken(
-                                response,
-                                jwtService.createAccessToken(String.valueOf(user.getId()), user.getRole()),
-                                reIssueRefreshToken(user)
-                        );
-                    }
-                });
-    }
-
-    /**
-     * [리프레시 토큰 재발급 & DB에 리프레시 토큰 업데이트 메소드]
-     * jwtService.createRefreshToken()으로 리프레시 토큰 재발급 후
-     * DB에 재발급한 리프레시 토큰 업데이트 후 Flush
-     */
-    private String reIssueRefreshToken(
-            final Member member
     ) {
         String reIssuedRefreshToken = jwtService.createRefreshToken();
-        member.updateRefreshToken(reIssuedRefreshToken);
-        memberRepository.saveAndFlush(member);
-        return reIssuedRefreshToken;
+
+        refreshTokenService.rotate(refreshToken, reIssuedRefreshToken)
+                .flatMap(authMemberService::findByMemberId)
+                .filter(user -> (RefreshTokenStatus.LOGIN).equals(user.refreshTokenStatus()))
+                .ifPresent(user -> jwtService.sendAccessAndRefreshToken(
+                        response,
+                        jwtService.createAccessToken(String.valueOf(user.memberId()), user.role(), user.tokenVersion()),
+                        reIssuedRefreshToken
+                ));
     }
 
     /**
      * [액세스 토큰 체크 & 인증 처리 메소드]
-     * request에서 extractAccessToken()으로 액세스 토큰 추출 후, isTokenValid()로 유효한 토큰인지 검증
-     * 유효한 토큰이면, 액세스 토큰에서 extractMemberId로 회원 ID를 추출한 후
-     * findByMemberId()로 해당 회원 ID를 사용하는 유저 객체 반환
+     * request에서 extractAccessToken()으로 액세스 토큰 추출 후, verifyToken()으로 한 번만 검증
+     * 유효한 토큰이면, 디코딩된 토큰에서 extractMember()로 회원 인증 스냅샷 반환 (캐시에 있으면 DB 조회 없음)
      * 그 유저 객체를 saveAuthentication()으로 인증 처리하여
      * 인증 허가 처리된 객체를 SecurityContextHolder에 담기
      * 그 후 다음 인증 필터로 진행
@@ -136,13 +135,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             final HttpServletResponse response,
             final FilterChain filterChain
     ) throws ServletException, IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        log.info("checkAccessTokenAndAuthentication() 호출");
         try {
-            jwtService.extractAccessToken(request)
-                    .filter(jwtService::isTokenValid)
-                    .flatMap(jwtService::extractMemberId)
-                    .flatMap(memberId -> memberRepository.findByIdAndMemberStatus(memberId, MemberStatus.REGISTRATION))
+            findAuthentication(request)
                     .ifPresent(this::saveAuthentication);
         } catch (GlobalException.TokenValidationException e) {
             response.setStatus(HttpStatus.UNAUTHORIZED.value());
@@ -161,38 +155,56 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * [지연 인증 컨텍스트 생성 메소드]
+     * 인증 없이 허용된 URL에서 인증 정보가 처음 필요해질 때 호출
+     * 토큰 예외는 GlobalExceptionHandler에서 401/403으로 응답
+     */
+    private SecurityContext createSecurityContext(
+            final HttpServletRequest request
+    ) {
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        findAuthentication(request)
+                .ifPresent(securityContext::setAuthentication);
+        return securityContext;
+    }
+
+    /**
+     * [인증 객체 조회 메소드]
+     * 액세스 토큰 추출 -> 검증(1회) -> 회원 인증 스냅샷 -> 순 방문자 기록 -> Authentication
+     */
+    private Optional<Authentication> findAuthentication(
+            final HttpServletRequest request
+    ) {
+        return jwtService.extractAccessToken(request)
+                .map(jwtService::verifyToken)
+                .flatMap(jwtService::extractMember)
+                .filter(member -> MemberStatus.REGISTRATION.equals(member.memberStatus()))
+                .map(member -> {
+                    uniqueVisitorService.record(member.memberId());
+                    return createAuthentication(member);
+                });
+    }
+
     /**
      * [인증 허가 메소드]
-     * 파라미터의 유저 : 우리가 만든 회원 객체 / 빌더의 유저 : UserDetails의 User 객체
-     * <p>
-     * new UsernamePasswordAuthenticationToken()로 인증 객체인 Authentication 객체 생성
-     * UsernamePasswordAuthenticationToken의 파라미터
-     * 1. 위에서 만든 UserDetailsUser 객체 (유저 정보)
-     * 2. credential(보통 비밀번호로, 인증 시에는 보통 null로 제거)
-     * 3. Collection < ? extends GrantedAuthority>로,
-     * UserDetails의 User 객체 안에 Set<GrantedAuthority> authorities이 있어서 getter로 호출한 후에,
-     * new NullAuthoritiesMapper()로 GrantedAuthoritiesMapper 객체를 생성하고 mapAuthorities()에 담기
-     * <p>
      * SecurityContextHolder.getContext()로 SecurityContext를 꺼낸 후,
-     * setAuthentication()을 이용하여 위에서 만든 Authentication 객체에 대한 인증 허가 처리
+     * setAuthentication()을 이용하여 createAuthentication()으로 만든 Authentication 객체에 대한 인증 허가 처리
      */
     public void saveAuthentication(
-            final Member myMember
+            final Authentication authentication
     ) {
-        String password = myMember.getPassword();
-        if (password == null) { // 소셜 로그인 유저의 비밀번호 임의로 설정 하여 소셜 로그인 유저도 인증 되도록 설정
-            password = PasswordUtil.generateRandomPassword();
-        }
-
-        UserDetails userDetailsUser = org.springframework.security.core.userdetails.User.builder()
-                .username(String.valueOf(myMember.getId()))
-                .password(password)
-                .roles(myMember.getRole().name())
-                .build();
-
-        Authentication authentication =
-                new UsernamePasswordAuthenticationToken(userDetailsUser, null, authoritiesMapper.mapAuthorities(userDetailsUser.getAuthorities()));
-
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
+
+    /**
+     * [인증 객체 생성 메소드]
+     * 회원 id와 Role별로 공유되는 권한 목록만 담은 가벼운 인증 객체 생성
+     * (소셜 로그인 회원은 비밀번호가 없으므로 임의 비밀번호를 만들지 않는다.)
+     */
+    private Authentication createAuthentication(
+            final AuthMemberDTO myMember
+    ) {
+        return new MemberAuthentication(new MemberPrincipal(myMember.memberId(), myMember.role()));
+    }
 }
@@ -0,0 +1,50 @@
+package com.coverflow.global.jwt.infrastructure;
+
+import com.coverflow.global.util.BloomFilter;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 액세스 토큰 폐기 저장소
+ * 회원별 유효한 최소 토큰 버전을 저장하고, 이보다 낮은 버전의 토큰은 폐기된 것으로 본다.
+ * 폐기 이력이 있는 회원은 소수이므로 블룸 필터로 대부분의 조회를 맵 접근 없이 끝낸다.
+ */
+@Repository
+public class TokenRevocationRepository {
+
+    private static final int BLOOM_FILTER_BITS = 1 << 20;
+    private static final int BLOOM_FILTER_HASHES = 4;
+
+    private final BloomFilter bloomFilter = new BloomFilter(BLOOM_FILTER_BITS, BLOOM_FILTER_HASHES);
+    private final Map<UUID, Integer> tokenVersionMap = new ConcurrentHashMap<>();
+
+    public void save(
+            final UUID memberId,
+            final int tokenVersion
+    ) {
+        tokenVersionMap.merge(memberId, tokenVersion, Math::max);
+        bloomFilter.add(key(memberId));
+    }
+
+    public boolean isRevoked(
+            final UUID memberId,
+            final int tokenVersion
+    ) {
+        if (!bloomFilter.mightContain(key(memberId))) {
+            return false;
+        }
+        return tokenVersion < tokenVersionMap.getOrDefault(memberId, 0);
+    }
+
+    public void deleteAll() {
+        tokenVersionMap.clear();
+        bloomFilter.clear();
+    }
+
+    private long key(final UUID memberId) {
+        return memberId.getMostSignificantBits() * 31 + memberId.getLeastSignificantBits();
+    }
+}
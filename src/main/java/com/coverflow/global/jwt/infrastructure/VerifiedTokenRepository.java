@@ -0,0 +1,67 @@
+package com.coverflow.global.jwt.infrastructure;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.springframework.stereotype.Repository;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검증된 토큰 캐시
+ * key: 토큰 SHA-256 다이제스트, value: 디코딩된 토큰
+ * 항목은 MAX_TTL_MILLIS와 토큰 만료 시간 중 빠른 시점에 만료된다.
+ */
+@Repository
+public class VerifiedTokenRepository {
+
+    private static final int MAX_SIZE = 10_000;
+    private static final long MAX_TTL_MILLIS = 60 * 1000L;
+
+    private final Map<String, VerifiedToken> cache = new ConcurrentHashMap<>();
+
+    public DecodedJWT findByDigest(final String digest) {
+        VerifiedToken verifiedToken = cache.get(digest);
+        if (verifiedToken == null) {
+            return null;
+        }
+        if (verifiedToken.expiredAt() <= System.currentTimeMillis()) {
+            cache.remove(digest, verifiedToken);
+            return null;
+        }
+        return verifiedToken.decodedJWT();
+    }
+
+    public void save(
+            final String digest,
+            final DecodedJWT decodedJWT
+    ) {
+        long expiredAt = System.currentTimeMillis() + MAX_TTL_MILLIS;
+        if (decodedJWT.getExpiresAt() != null) {
+            expiredAt = Math.min(expiredAt, decodedJWT.getExpiresAt().getTime());
+        }
+
+        if (cache.size() >= MAX_SIZE) {
+            evict();
+        }
+        cache.put(digest, new VerifiedToken(decodedJWT, expiredAt));
+    }
+
+    // 만료 항목을 먼저 지우고, 그래도 가득 차 있으면 90%까지 임의로 비운다.
+    private void evict() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(verifiedToken -> verifiedToken.expiredAt() <= now);
+
+        Iterator<String> iterator = cache.keySet().iterator();
+        while (cache.size() >= MAX_SIZE * 9 / 10 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record VerifiedToken(
+            DecodedJWT decodedJWT,
+            long expiredAt
+    ) {
+    }
+}
@@ -1,14 +1,18 @@
 package com.coverflow.global.jwt.service;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.coverflow.global.exception.GlobalException;
-import com.coverflow.member.domain.Member;
-import com.coverflow.member.domain.RefreshTokenStatus;
+import com.coverflow.global.jwt.infrastructure.VerifiedTokenRepository;
+import com.coverflow.global.util.HashUtil;
+import com.coverflow.member.application.AuthMemberService;
 import com.coverflow.member.domain.Role;
+import com.coverflow.member.dto.AuthMemberDTO;
 import com.coverflow.member.exception.MemberException;
-import com.coverflow.member.infrastructure.MemberRepository;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.Getter;
@@ -17,6 +21,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.Base64;
 import java.util.Date;
 import java.util.Optional;
 import java.util.UUID;
@@ -34,8 +39,11 @@ public class JwtService {
     private static final String REFRESH_TOKEN_SUBJECT = "RefreshToken";
     private static final String MEMBER_ID_CLAIM = "memberId";
     private static final String ROLE = "role";
+    private static final String TOKEN_VERSION_CLAIM = "ver";
     private static final String BEARER = "Bearer ";
-    private final MemberRepository memberRepository;
+    private final AuthMemberService authMemberService;
+    private final TokenRevocationService tokenRevocationService;
+    private final VerifiedTokenRepository verifiedTokenRepository;
     @Value("${jwt.secret-key}")
     private String secretKey;
     @Value("${jwt.access.expiration}")
@@ -46,13 +54,25 @@ public class JwtService {
     private String accessHeader;
     @Value("${jwt.refresh.header}")
     private String refreshHeader;
+    private Algorithm algorithm;
+    private JWTVerifier jwtVerifier;
+
+    /**
+     * 서명 알고리즘과 검증기는 스레드 안전하므로 한 번만 생성해서 재사용
+     */
+    @PostConstruct
+    public void init() {
+        algorithm = Algorithm.HMAC512(secretKey);
+        jwtVerifier = JWT.require(algorithm).build();
+    }
 
     /**
      * AccessToken 생성 메소드
      */
     public String createAccessToken(
             final String memberId,
-            final Role role
+            final Role role,
+            final int tokenVersion
     ) {
         Date now = new Date();
         return JWT.create() // JWT 토큰을 생성하는 빌더 반환
@@ -64,10 +84,11 @@ public class JwtService {
                 // .withClaim(클래임 이름, 클래임 값)로 추가
                 .withClaim(MEMBER_ID_CLAIM, memberId)
                 .withClaim(ROLE, role.toString())
+                .withClaim(TOKEN_VERSION_CLAIM, tokenVersion) // 로그아웃/탈퇴 시 이전 버전 토큰 폐기
 
                 // HMAC512 알고리즘 사용
                 // application.yml에서 지정한 secretKey로 암호화
-                .sign(Algorithm.HMAC512(secretKey));
+                .sign(algorithm);
     }
 
     /**
@@ -79,8 +100,9 @@ public class JwtService {
         Date now = new Date();
         return JWT.create()
                 .withSubject(REFRESH_TOKEN_SUBJECT)
+                .withJWTId(UUID.randomUUID().toString()) // 같은 시각에 발급돼도 토큰(해시)이 겹치지 않도록
                 .withExpiresAt(new Date(now.getTime() + refreshTokenExpirationPeriod))
-                .sign(Algorithm.HMAC512(secretKey));
+                .sign(algorithm);
     }
 
     /**
@@ -136,29 +158,31 @@ public class JwtService {
     }
 
     /**
-     * AccessToken에서 회원 ID 추출
-     * 추출 전에 JWT.require()로 검증기 생성
-     * verify로 AceessToken 검증 후
-     * 유효하다면 getClaim()으로 회원 ID 추출
-     * 유효하지 않다면 빈 Optional 객체 반환
+     * 검증된 AccessToken에서 회원 추출
+     * verifyToken()으로 이미 검증된 토큰의 클레임을 다시 검증하지 않고 사용
+     * getClaim()으로 회원 ID와 토큰 버전 추출 후 폐기된 토큰인지 확인 (폐기 저장소, 회원 스냅샷 순서, DB 조회 없음)
      */
-    public Optional<UUID> extractMemberId(
-            final String accessToken
+    public Optional<AuthMemberDTO> extractMember(
+            final DecodedJWT decodedJWT
     ) {
-        // 토큰 유효성 검사하는 데에 사용할 알고리즘이 있는 JWT verifier builder 반환
-        UUID memberId = JWT.require(Algorithm.HMAC512(secretKey))
-                .build() // 반환된 빌더로 JWT verifier 생성
-                .verify(accessToken) // accessToken을 검증하고 유효하지 않다면 예외 발생
-                .getClaim(MEMBER_ID_CLAIM) // claim(MemberId) 가져오기
+        UUID memberId = decodedJWT.getClaim(MEMBER_ID_CLAIM) // claim(MemberId) 가져오기
                 .as(UUID.class);
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(MemberException.MemberNotFoundException::new);
+        Integer tokenVersionClaim = decodedJWT.getClaim(TOKEN_VERSION_CLAIM).asInt();
+        int tokenVersion = tokenVersionClaim == null ? 0 : tokenVersionClaim;
 
-        if ((RefreshTokenStatus.LOGOUT).equals(member.getRefreshTokenStatus())) {
+        if (tokenRevocationService.isRevoked(memberId, tokenVersion)) {
             throw new GlobalException.LogoutMemberException();
         }
 
-        return Optional.of(memberId);
+        AuthMemberDTO member = authMemberService.findByMemberId(memberId)
+                .orElseThrow(MemberException.MemberNotFoundException::new);
+
+        // 다른 서버에서 폐기된 토큰은 이 서버의 폐기 저장소에 없으므로 회원 스냅샷의 토큰 버전으로 확인
+        // (스냅샷 캐시 유효 시간이 지나면 DB의 올라간 버전이 반영된다.)
+        if (tokenVersion < member.tokenVersion()) {
+            throw new GlobalException.LogoutMemberException();
+        }
+        return Optional.of(member);
     }
 
     /**
@@ -181,30 +205,24 @@ public class JwtService {
         response.setHeader(refreshHeader, refreshToken);
     }
 
-    /*
-      RefreshToken DB 저장(업데이트)
-      사용 x
-     */
-//    @Transactional
-//    public void updateRefreshToken(
-//            final UUID memberId,
-//            final String refreshToken
-//    ) {
-//        Member member = memberRepository.findByIdAndMemberStatus(memberId, MemberStatus.REGISTRATION)
-//                .orElseThrow(() -> new IllegalArgumentException("일치하는 회원이 없습니다."));
-//
-//        member.updateRefreshToken(refreshToken);
-//    }
-
     /**
-     * [토큰 유효성 검사 메서드]
+     * [토큰 검증 메서드]
+     * 서명과 만료 시간을 검증하고 디코딩된 토큰 반환
+     * 같은 토큰은 만료 전까지 검증 결과를 캐시에서 재사용 (로그아웃 여부는 extractMember()에서 매번 확인)
      */
-    public boolean isTokenValid(
+    public DecodedJWT verifyToken(
             final String token
     ) {
+        String digest = Base64.getEncoder().encodeToString(HashUtil.sha256(token));
+        DecodedJWT cachedToken = verifiedTokenRepository.findByDigest(digest);
+        if (cachedToken != null) {
+            return cachedToken;
+        }
+
         try {
-            JWT.require(Algorithm.HMAC512(secretKey)).build().verify(token);
-            return true;
+            DecodedJWT decodedJWT = jwtVerifier.verify(token);
+            verifiedTokenRepository.save(digest, decodedJWT);
+            return decodedJWT;
         } catch (JWTVerificationException e) {
             throw new GlobalException.TokenValidationException();
         }
@@ -0,0 +1,65 @@
+package com.coverflow.global.jwt.service;
+
+import com.coverflow.global.jwt.infrastructure.TokenRevocationRepository;
+import com.coverflow.global.util.TransactionUtil;
+import com.coverflow.member.domain.Member;
+import com.coverflow.member.dto.MemberTokenVersionDTO;
+import com.coverflow.member.infrastructure.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class TokenRevocationService {
+
+    private final MemberRepository memberRepository;
+    private final TokenRevocationRepository tokenRevocationRepository;
+
+    /**
+     * [토큰 폐기 메서드]
+     * 회원의 토큰 버전을 올려 이전에 발급된 액세스 토큰을 모두 무효화
+     * 이 서버의 폐기 저장소에는 커밋 후에만 기록하고, 다른 서버는 회원 스냅샷의 토큰 버전과
+     * 토큰의 버전 클레임을 비교해 폐기 여부를 판단한다. (JwtService.extractMember())
+     */
+    public void revoke(final Member member) {
+        member.updateTokenVersion(member.getTokenVersion() + 1);
+
+        UUID memberId = member.getId();
+        int tokenVersion = member.getTokenVersion();
+        TransactionUtil.afterCommit(() -> tokenRevocationRepository.save(memberId, tokenVersion));
+    }
+
+    /**
+     * [토큰 폐기 여부 확인 메서드]
+     * DB 조회 없이 이 서버의 메모리에서만 확인
+     */
+    public boolean isRevoked(
+            final UUID memberId,
+            final int tokenVersion
+    ) {
+        return tokenRevocationRepository.isRevoked(memberId, tokenVersion);
+    }
+
+    /**
+     * [토큰 폐기 저장소 재구성 메서드]
+     * 서버 시작 시 토큰 버전이 올라간 회원만 스트리밍 조회로 읽어온다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        tokenRevocationRepository.deleteAll();
+
+        try (Stream<MemberTokenVersionDTO> members = memberRepository.findRevokedTokenVersions()) {
+            members.forEach(member -> tokenRevocationRepository.save(member.getMemberId(), member.getTokenVersion()));
+        }
+        log.info("토큰 폐기 저장소 재구성 완료");
+    }
+}
@@ -1,6 +1,7 @@
 package com.coverflow.global.login.handler;
 
 import com.coverflow.global.jwt.service.JwtService;
+import com.coverflow.member.application.RefreshTokenService;
 import com.coverflow.member.infrastructure.MemberRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -19,6 +20,7 @@ import org.springframework.security.web.authentication.SimpleUrlAuthenticationSu
 public class LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
     private final JwtService jwtService;
+    private final RefreshTokenService refreshTokenService;
     private final MemberRepository memberRepository;
 
     @Value("${jwt.access.expiration}")
@@ -40,10 +42,7 @@ public class LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 //        jwtService.sendAccessAndRefreshToken(response, accessToken, refreshToken); // 응답 헤더에 AccessToken, RefreshToken 실어서 응답
 
         memberRepository.findByEmail(email)
-                .ifPresent(user -> {
-                    user.updateRefreshToken(refreshToken);
-                    memberRepository.saveAndFlush(user);
-                });
+                .ifPresent(user -> refreshTokenService.save(user.getId(), refreshToken));
         log.info("로그인에 성공하였습니다. 이메일 : {}", email);
 //        log.info("로그인에 성공하였습니다. AccessToken : {}", accessToken);
         log.info("발급된 AccessToken 만료 기간 : {}", accessTokenExpiration);
@@ -0,0 +1,111 @@
+package com.coverflow.global.metric;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간 히스토그램 (HDR 방식의 로그-선형 버킷)
+ * 마이크로초 값을 2의 거듭제곱 구간마다 16개 하위 버킷으로 나눠 상대 오차 6.25% 이내로 기록한다.
+ * 기록은 원자적 증가만 하므로 잠금이 없고, 메모리는 값의 범위와 무관하게 고정(608개 버킷)이다.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40; // 2^40µs ≈ 12일, 그 이상은 마지막 버킷
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+
+    /**
+     * [지연 시간 기록 메서드]
+     */
+    public void record(final long nanos) {
+        long micros = Math.max(0, nanos / 1_000);
+        buckets.incrementAndGet(index(micros));
+        sum.add(micros);
+        max.accumulate(micros);
+    }
+
+    /**
+     * [요약 메서드]
+     * 버킷을 한 번 복사해 건수, 합계, 평균, 최댓값, 백분위(µs)를 계산한다.
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+
+        long sumMicros = sum.sum();
+        long maxMicros = max.get();
+        return new Snapshot(
+                total,
+                sumMicros,
+                total == 0 ? 0 : sumMicros / total,
+                maxMicros,
+                percentile(counts, total, 0.5, maxMicros),
+                percentile(counts, total, 0.9, maxMicros),
+                percentile(counts, total, 0.99, maxMicros),
+                percentile(counts, total, 0.999, maxMicros)
+        );
+    }
+
+    private static long percentile(
+            final long[] counts,
+            final long total,
+            final double quantile,
+            final long maxMicros
+    ) {
+        if (total == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(quantile * total);
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= target) {
+                return Math.min(upperBound(i), maxMicros);
+            }
+        }
+        return maxMicros;
+    }
+
+    private static int index(final long micros) {
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) ((micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1));
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    private static long upperBound(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKET_COUNT;
+        return ((long) (SUB_BUCKET_COUNT + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    public record Snapshot(
+            long count,
+            long sumMicros,
+            long meanMicros,
+            long maxMicros,
+            long p50Micros,
+            long p90Micros,
+            long p99Micros,
+            long p999Micros
+    ) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.coverflow.global.metric;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메서드 하나의 지표
+ * 호출 수와 예외 수는 모든 호출을 세고, 지연 시간은 샘플링된 호출만 히스토그램에 기록한다.
+ */
+public class MethodMetric {
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    public void record(
+            final long elapsedNanos,
+            final boolean error,
+            final boolean sampled
+    ) {
+        calls.increment();
+        if (error) {
+            errors.increment();
+        }
+        if (sampled) {
+            latency.record(elapsedNanos);
+        }
+    }
+
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+}
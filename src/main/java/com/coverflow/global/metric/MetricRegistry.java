@@ -0,0 +1,42 @@
+package com.coverflow.global.metric;
+
+import com.coverflow.global.metric.dto.MetricDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 애플리케이션 내부 지표 저장소
+ * 이름(controller.*, service.*, repository.*)별 메서드 지표를 보관한다.
+ */
+@Component
+public class MetricRegistry {
+
+    private final long startedAt = System.nanoTime();
+    private final Map<String, MethodMetric> metrics = new ConcurrentHashMap<>();
+
+    public MethodMetric metric(final String name) {
+        MethodMetric metric = metrics.get(name);
+        if (metric != null) {
+            return metric;
+        }
+        return metrics.computeIfAbsent(name, key -> new MethodMetric());
+    }
+
+    /**
+     * 이름 순으로 정렬된 지표 요약
+     */
+    public List<MetricDTO> snapshot() {
+        double uptimeSeconds = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000_000.0);
+        return new TreeMap<>(metrics).entrySet().stream()
+                .map(entry -> MetricDTO.of(entry.getKey(), entry.getValue(), uptimeSeconds))
+                .toList();
+    }
+
+    public long getUptimeSeconds() {
+        return (System.nanoTime() - startedAt) / 1_000_000_000L;
+    }
+}
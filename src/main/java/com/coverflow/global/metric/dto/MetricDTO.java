@@ -0,0 +1,45 @@
+package com.coverflow.global.metric.dto;
+
+import com.coverflow.global.metric.LatencyHistogram;
+import com.coverflow.global.metric.MethodMetric;
+
+public record MetricDTO(
+        String name,
+        long count,
+        long errorCount,
+        double errorRate,
+        double throughput,
+        long latencyCount,
+        long latencySumMicros,
+        long meanMicros,
+        long maxMicros,
+        long p50Micros,
+        long p90Micros,
+        long p99Micros,
+        long p999Micros
+) {
+    public static MetricDTO of(
+            final String name,
+            final MethodMetric metric,
+            final double uptimeSeconds
+    ) {
+        long count = metric.getCalls();
+        long errorCount = metric.getErrors();
+        LatencyHistogram.Snapshot latency = metric.getLatency().snapshot();
+        return new MetricDTO(
+                name,
+                count,
+                errorCount,
+                count == 0 ? 0 : (double) errorCount / count,
+                count / uptimeSeconds,
+                latency.count(),
+                latency.sumMicros(),
+                latency.meanMicros(),
+                latency.maxMicros(),
+                latency.p50Micros(),
+                latency.p90Micros(),
+                latency.p99Micros(),
+                latency.p999Micros()
+        );
+    }
+}
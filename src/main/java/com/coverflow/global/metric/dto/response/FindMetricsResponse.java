@@ -0,0 +1,20 @@
+package com.coverflow.global.metric.dto.response;
+
+import com.coverflow.global.metric.dto.MetricDTO;
+
+import java.util.List;
+
+public record FindMetricsResponse(
+        long uptimeSeconds,
+        List<MetricDTO> metrics
+) {
+    public static FindMetricsResponse of(
+            final long uptimeSeconds,
+            final List<MetricDTO> metrics
+    ) {
+        return new FindMetricsResponse(
+                uptimeSeconds,
+                metrics
+        );
+    }
+}
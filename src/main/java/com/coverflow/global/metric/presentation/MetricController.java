@@ -0,0 +1,39 @@
+package com.coverflow.global.metric.presentation;
+
+import com.coverflow.global.annotation.AdminAuthorize;
+import com.coverflow.global.handler.ResponseHandler;
+import com.coverflow.global.metric.dto.response.FindMetricsResponse;
+import com.coverflow.global.metric.service.MetricService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/metric")
+@RestController
+public class MetricController {
+
+    private final MetricService metricService;
+
+    @GetMapping("/admin")
+    @AdminAuthorize
+    public ResponseEntity<ResponseHandler<FindMetricsResponse>> find() {
+        return ResponseEntity.ok()
+                .body(ResponseHandler.<FindMetricsResponse>builder()
+                        .statusCode(HttpStatus.OK)
+                        .data(metricService.find())
+                        .build());
+    }
+
+    @GetMapping(value = "/admin/text", produces = MediaType.TEXT_PLAIN_VALUE)
+    @AdminAuthorize
+    public ResponseEntity<String> findAsText() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(metricService.findAsText());
+    }
+}
@@ -0,0 +1,71 @@
+package com.coverflow.global.metric.service;
+
+import com.coverflow.global.metric.MetricRegistry;
+import com.coverflow.global.metric.dto.MetricDTO;
+import com.coverflow.global.metric.dto.response.FindMetricsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@Service
+public class MetricService {
+
+    private static final String PREFIX = "coverflow_";
+
+    private final MetricRegistry metricRegistry;
+
+    /**
+     * [관리자 전용: 지표 조회 메서드]
+     */
+    public FindMetricsResponse find() {
+        return FindMetricsResponse.of(metricRegistry.getUptimeSeconds(), metricRegistry.snapshot());
+    }
+
+    /**
+     * [관리자 전용: 텍스트 지표 조회 메서드]
+     * 대시보드 수집기가 바로 읽을 수 있는 Prometheus 텍스트 형식
+     */
+    public String findAsText() {
+        List<MetricDTO> metrics = metricRegistry.snapshot();
+        StringBuilder text = new StringBuilder();
+
+        text.append("# TYPE ").append(PREFIX).append("uptime_seconds gauge\n")
+                .append(PREFIX).append("uptime_seconds ").append(metricRegistry.getUptimeSeconds()).append('\n');
+
+        text.append("# TYPE ").append(PREFIX).append("calls_total counter\n");
+        metrics.forEach(metric -> appendLine(text, "calls_total", metric.name(), null, metric.count()));
+
+        text.append("# TYPE ").append(PREFIX).append("errors_total counter\n");
+        metrics.forEach(metric -> appendLine(text, "errors_total", metric.name(), null, metric.errorCount()));
+
+        text.append("# TYPE ").append(PREFIX).append("latency_microseconds summary\n");
+        metrics.forEach(metric -> {
+            appendLine(text, "latency_microseconds", metric.name(), "0.5", metric.p50Micros());
+            appendLine(text, "latency_microseconds", metric.name(), "0.9", metric.p90Micros());
+            appendLine(text, "latency_microseconds", metric.name(), "0.99", metric.p99Micros());
+            appendLine(text, "latency_microseconds", metric.name(), "0.999", metric.p999Micros());
+            appendLine(text, "latency_microseconds_sum", metric.name(), null, metric.latencySumMicros());
+            appendLine(text, "latency_microseconds_count", metric.name(), null, metric.latencyCount());
+        });
+
+        text.append("# TYPE ").append(PREFIX).append("latency_max_microseconds gauge\n");
+        metrics.forEach(metric -> appendLine(text, "latency_max_microseconds", metric.name(), null, metric.maxMicros()));
+        return text.toString();
+    }
+
+    private void appendLine(
+            final StringBuilder text,
+            final String metricName,
+            final String name,
+            final String quantile,
+            final long value
+    ) {
+        text.append(PREFIX).append(metricName).append("{name=\"").append(name).append('"');
+        if (quantile != null) {
+            text.append(",quantile=\"").append(quantile).append('"');
+        }
+        text.append("} ").append(value).append('\n');
+    }
+}
@@ -0,0 +1,164 @@
+package com.coverflow.global.migration;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 데이터 마이그레이션
+ * ddl-auto가 처리하지 못하는 기존 데이터 보정을 서버가 요청을 받기 전에 버전별로 한 번씩 실행한다.
+ * EntityManagerFactory(ddl-auto)가 만들어진 뒤에 실행되고, 실행한 버전은 tbl_schema_migration에 기록한다.
+ * MySQL에서 DDL(ALTER, CREATE INDEX)은 암묵적으로 커밋되므로 한 버전이 원자적으로 실행되지 않는다.
+ * 그래서 모든 단계는 다시 실행해도 결과가 같게(조건부 UPDATE, 존재 여부 확인) 작성하고,
+ * 버전 행은 모든 단계가 성공한 뒤에만 기록해 중간에 실패한 버전은 다음 시작 시 처음부터 다시 실행한다.
+ * 여러 서버가 동시에 시작하면 같은 버전을 함께 실행할 수 있지만 단계가 멱등이므로 결과는 같다.
+ */
+@Slf4j
+@Component
+public class SchemaMigration {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${jwt.refresh.expiration}")
+    private long refreshTokenExpirationPeriod;
+
+    public SchemaMigration(
+            final EntityManagerFactory entityManagerFactory,
+            final JdbcTemplate jdbcTemplate,
+            final PlatformTransactionManager transactionManager
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void migrate() {
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS tbl_schema_migration (
+                    version VARCHAR(100) NOT NULL PRIMARY KEY,
+                    applied_at DATETIME(6) NOT NULL
+                )
+                """);
+
+        // 보상 상태가 없는 기존 질문: 채택된 답변이 있으면 이미 지급된 것으로, 없으면 보관 중으로 본다.
+        // (ddl-auto는 기존 ENUM 컬럼에 새 값을 추가하지 않으므로 상태/사유 컬럼은 VARCHAR로 바꾼다.)
+        migrate("1_question_reward_status", List.of(
+                "ALTER TABLE tbl_question MODIFY reward_status VARCHAR(20)",
+                "ALTER TABLE tbl_currency_ledger MODIFY reason VARCHAR(30) NOT NULL",
+                """
+                        UPDATE tbl_question q
+                        SET q.reward_status = 'RELEASED'
+                        WHERE q.reward_status IS NULL
+                        AND EXISTS (SELECT 1 FROM tbl_answer a WHERE a.question_id = q.id AND a.selection = TRUE)
+                        """,
+                """
+                        UPDATE tbl_question
+                        SET reward_status = 'HELD'
+                        WHERE reward_status IS NULL
+                        """
+        ));
+
+        // 회원 테이블에 원문으로 남아 있던 리프레쉬 토큰을 해시 테이블로 옮겨 배포 시 기존 로그인 세션을 유지한다.
+        // SHA2(..., 256)는 HashUtil.sha256Hex()와 같은 소문자 16진수이고, 토큰 자체의 만료 시간은 재발급 시 JWT 검증에서 따로 확인한다.
+        // 옮긴 뒤 원문은 지우고, 더 이상 매핑하지 않는 refresh_token 컬럼은 삭제한다.
+        // (새 DB에는 ddl-auto가 이 컬럼을 만들지 않으므로 컬럼이 없으면 아무것도 하지 않는다.)
+        migrate("2_refresh_token_table", () -> {
+            if (!columnExists("tbl_member", "refresh_token")) {
+                return;
+            }
+            jdbcTemplate.update("""
+                    INSERT IGNORE INTO tbl_refresh_token (token_hash, member_id, expired_at, created_at)
+                    SELECT SHA2(m.refresh_token, 256), m.id, NOW() + INTERVAL %d MICROSECOND, NOW()
+                    FROM tbl_member m
+                    WHERE m.refresh_token IS NOT NULL
+                    AND m.refresh_token_status = 'LOGIN'
+                    AND NOT EXISTS (SELECT 1 FROM tbl_refresh_token r WHERE r.member_id = m.id)
+                    """.formatted(refreshTokenExpirationPeriod * 1000));
+            jdbcTemplate.execute("ALTER TABLE tbl_member DROP COLUMN refresh_token");
+        });
+
+        // 예전 조회 후 INSERT 방식에서 동시 방문으로 생긴 같은 날짜의 중복 행을 합친 뒤 today 유니크 인덱스를 만든다.
+        // (중복 행이 있으면 ddl-auto의 인덱스 생성이 경고만 남기고 실패하므로 여기서 다시 확인한다.)
+        migrate("3_visitor_today_unique", () -> {
+            jdbcTemplate.update("""
+                    UPDATE tbl_visitor v
+                    JOIN (SELECT today, MIN(id) AS keep_id, SUM(count) AS total
+                          FROM tbl_visitor
+                          GROUP BY today
+                          HAVING COUNT(*) > 1) d ON v.id = d.keep_id
+                    SET v.count = d.total
+                    """);
+            jdbcTemplate.update("""
+                    DELETE v
+                    FROM tbl_visitor v
+                    JOIN (SELECT today, MIN(id) AS keep_id
+                          FROM tbl_visitor
+                          GROUP BY today
+                          HAVING COUNT(*) > 1) d ON v.today = d.today AND v.id <> d.keep_id
+                    """);
+
+            Integer indexCount = jdbcTemplate.queryForObject("""
+                    SELECT COUNT(*)
+                    FROM information_schema.statistics
+                    WHERE table_schema = DATABASE()
+                    AND table_name = 'tbl_visitor'
+                    AND index_name = 'visitor_today_idx'
+                    """, Integer.class);
+            if (indexCount == null || indexCount == 0) {
+                jdbcTemplate.execute("CREATE UNIQUE INDEX visitor_today_idx ON tbl_visitor (today)");
+            }
+        });
+    }
+
+    private boolean columnExists(
+            final String tableName,
+            final String columnName
+    ) {
+        Integer columnCount = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*)
+                FROM information_schema.columns
+                WHERE table_schema = DATABASE()
+                AND table_name = ?
+                AND column_name = ?
+                """, Integer.class, tableName, columnName);
+        return columnCount != null && columnCount > 0;
+    }
+
+    private void migrate(
+            final String version,
+            final List<String> statements
+    ) {
+        migrate(version, () -> statements.forEach(jdbcTemplate::update));
+    }
+
+    private void migrate(
+            final String version,
+            final Runnable migration
+    ) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Integer applied = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM tbl_schema_migration WHERE version = ?",
+                    Integer.class,
+                    version
+            );
+            if (applied != null && applied > 0) {
+                return;
+            }
+
+            migration.run();
+            jdbcTemplate.update(
+                    "INSERT IGNORE INTO tbl_schema_migration (version, applied_at) VALUES (?, NOW(6))",
+                    version
+            );
+            log.info("마이그레이션 {} 적용", version);
+        });
+    }
+}
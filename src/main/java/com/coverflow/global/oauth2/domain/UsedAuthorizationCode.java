@@ -0,0 +1,29 @@
+package com.coverflow.global.oauth2.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용된 인가 코드 (재사용 방지)
+ * 코드 자체에 회원 id와 만료 시간이 담겨 있으므로 어느 서버에서든 검증할 수 있고,
+ * 여러 서버가 같은 코드를 한 번만 받아들이도록 사용 기록만 DB에 남긴다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "tbl_used_authorization_code",
+        indexes = {
+                @Index(name = "used_authorization_code_expired_at_idx", columnList = "expiredAt")
+        })
+public class UsedAuthorizationCode {
+
+    @Id
+    @Column(length = 64)
+    private String codeHash; // 인가 코드 SHA-256 해시 (16진수 64자)
+    @Column(nullable = false)
+    private LocalDateTime expiredAt; // 코드 만료 시간 (이후에는 코드 자체가 거부되므로 기록 삭제)
+}
@@ -1,7 +1,7 @@
 package com.coverflow.global.oauth2.handler;
 
 import com.coverflow.global.oauth2.CustomOAuth2User;
-import com.coverflow.global.util.AesUtil;
+import com.coverflow.global.oauth2.service.AuthorizationCodeService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +25,8 @@ import java.net.URI;
 @Component
 public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
 
+    private final AuthorizationCodeService authorizationCodeService;
+
     @Override
     public void onAuthenticationSuccess(
             final HttpServletRequest request,
@@ -34,13 +36,8 @@ public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
         log.info("OAuth2 Login 성공!");
         CustomOAuth2User oAuth2User = (CustomOAuth2User) authentication.getPrincipal();
 
-        // 인가 코드 발행
-        String code;
-        try {
-            code = AesUtil.encrypt(String.valueOf(oAuth2User.getMemberId()));
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        // 1회용 인가 코드 발행
+        String code = authorizationCodeService.issue(oAuth2User.getMemberId());
 
         // 인가 코드 및 회원 권한 URL에 담기
         String targetUrl = createURI(code, String.valueOf(oAuth2User.getRole())).toString();
@@ -0,0 +1,80 @@
+package com.coverflow.global.oauth2.infrastructure;
+
+import com.coverflow.member.domain.SocialType;
+import org.springframework.stereotype.Repository;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 소셜 식별자 -> 회원 id 캐시
+ * 크기(MAX_SIZE)와 유효 시간(TTL_MILLIS)이 제한된 메모리 저장소
+ */
+@Repository
+public class SocialMemberCacheRepository {
+
+    private static final int MAX_SIZE = 10_000;
+    private static final long TTL_MILLIS = 10 * 60 * 1000L;
+
+    private final Map<SocialIdentity, CachedMemberId> cache = new ConcurrentHashMap<>();
+
+    public UUID findBySocialTypeAndSocialId(
+            final SocialType socialType,
+            final String socialId
+    ) {
+        SocialIdentity socialIdentity = new SocialIdentity(socialType, socialId);
+        CachedMemberId cachedMemberId = cache.get(socialIdentity);
+        if (cachedMemberId == null) {
+            return null;
+        }
+        if (cachedMemberId.expiredAt() < System.currentTimeMillis()) {
+            cache.remove(socialIdentity, cachedMemberId);
+            return null;
+        }
+        return cachedMemberId.memberId();
+    }
+
+    public void save(
+            final SocialType socialType,
+            final String socialId,
+            final UUID memberId
+    ) {
+        if (cache.size() >= MAX_SIZE) {
+            evict();
+        }
+        cache.put(new SocialIdentity(socialType, socialId), new CachedMemberId(memberId, System.currentTimeMillis() + TTL_MILLIS));
+    }
+
+    public void delete(
+            final SocialType socialType,
+            final String socialId
+    ) {
+        cache.remove(new SocialIdentity(socialType, socialId));
+    }
+
+    // 만료 항목을 먼저 지우고, 그래도 가득 차 있으면 90%까지 임의로 비운다.
+    private void evict() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(cachedMemberId -> cachedMemberId.expiredAt() < now);
+
+        Iterator<SocialIdentity> iterator = cache.keySet().iterator();
+        while (cache.size() >= MAX_SIZE * 9 / 10 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record SocialIdentity(
+            SocialType socialType,
+            String socialId
+    ) {
+    }
+
+    private record CachedMemberId(
+            UUID memberId,
+            long expiredAt
+    ) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.coverflow.global.oauth2.infrastructure;
+
+import com.coverflow.global.oauth2.domain.UsedAuthorizationCode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface UsedAuthorizationCodeRepository extends JpaRepository<UsedAuthorizationCode, String> {
+
+    /**
+     * 처음 사용하는 코드일 때만 기록 (이미 사용된 코드면 0 반환, 동시 요청 시 한 요청만 1)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO tbl_used_authorization_code (code_hash, expired_at)
+            VALUES (:codeHash, :expiredAt)
+            """, nativeQuery = true)
+    int insertIgnore(
+            @Param("codeHash") final String codeHash,
+            @Param("expiredAt") final LocalDateTime expiredAt
+    );
+
+    @Modifying
+    @Query("""
+            DELETE FROM UsedAuthorizationCode u
+            WHERE u.expiredAt <= :now
+            """)
+    void deleteExpired(@Param("now") final LocalDateTime now);
+}
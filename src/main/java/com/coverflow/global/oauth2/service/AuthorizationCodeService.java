@@ -0,0 +1,89 @@
+package com.coverflow.global.oauth2.service;
+
+import com.coverflow.global.exception.GlobalException;
+import com.coverflow.global.oauth2.infrastructure.UsedAuthorizationCodeRepository;
+import com.coverflow.global.util.AesUtil;
+import com.coverflow.global.util.HashUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+@Service
+public class AuthorizationCodeService {
+
+    private static final long CODE_TTL_MILLIS = 3 * 60 * 1000L;
+    private static final String DELIMITER = ":";
+
+    private final UsedAuthorizationCodeRepository usedAuthorizationCodeRepository;
+
+    /**
+     * [인가 코드 발행 메서드]
+     * 회원 id와 만료 시간을 암호화해 코드 자체에 담는다. (서버에 저장하지 않으므로 어느 서버에서든 사용 가능)
+     */
+    public String issue(final UUID memberId) {
+        long expiredAt = System.currentTimeMillis() + CODE_TTL_MILLIS;
+        try {
+            return AesUtil.encrypt(memberId + DELIMITER + expiredAt);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * [인가 코드 사용 메서드]
+     * 복호화와 만료 시간을 확인한 뒤 사용 기록을 남기며, 위조/만료/재사용된 코드는 거부
+     */
+    @Transactional
+    public UUID consume(final String code) {
+        String[] parts = decrypt(code).split(DELIMITER);
+        if (parts.length != 2) {
+            throw new GlobalException.TokenValidationException();
+        }
+
+        UUID memberId;
+        long expiredAt;
+        try {
+            memberId = UUID.fromString(parts[0]);
+            expiredAt = Long.parseLong(parts[1]);
+        } catch (IllegalArgumentException e) {
+            throw new GlobalException.TokenValidationException();
+        }
+        if (expiredAt < System.currentTimeMillis()) {
+            throw new GlobalException.TokenValidationException();
+        }
+
+        // 같은 바이트를 다르게 인코딩한 코드도 같은 기록이 되도록 다시 인코딩한 값으로 해시
+        String canonicalCode = Base64.getUrlEncoder().encodeToString(Base64.getUrlDecoder().decode(code));
+        LocalDateTime expiredDateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(expiredAt), ZoneId.systemDefault());
+        if (usedAuthorizationCodeRepository.insertIgnore(HashUtil.sha256Hex(canonicalCode), expiredDateTime) == 0) {
+            throw new GlobalException.TokenValidationException();
+        }
+        return memberId;
+    }
+
+    /**
+     * 만료된 인가 코드 사용 기록 10분마다 삭제 메서드
+     */
+    @Scheduled(fixedRate = 10 * 60 * 1000)
+    @Transactional
+    public void deleteExpired() {
+        usedAuthorizationCodeRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private String decrypt(final String code) {
+        try {
+            return AesUtil.decrypt(code);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new GlobalException.TokenValidationException();
+        }
+    }
+}
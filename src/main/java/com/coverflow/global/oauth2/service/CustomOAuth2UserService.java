@@ -2,10 +2,14 @@ package com.coverflow.global.oauth2.service;
 
 import com.coverflow.global.oauth2.CustomOAuth2User;
 import com.coverflow.global.oauth2.OAuthAttributes;
+import com.coverflow.global.oauth2.infrastructure.SocialMemberCacheRepository;
 import com.coverflow.global.util.NicknameUtil;
+import com.coverflow.member.application.AuthMemberService;
 import com.coverflow.member.domain.Member;
 import com.coverflow.member.domain.MemberStatus;
+import com.coverflow.member.domain.Role;
 import com.coverflow.member.domain.SocialType;
+import com.coverflow.member.dto.AuthMemberDTO;
 import com.coverflow.member.exception.MemberException;
 import com.coverflow.member.infrastructure.MemberRepository;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +25,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -29,6 +35,9 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
 
     private static final String NAVER = "naver";
     private static final String KAKAO = "kakao";
+    private final DefaultOAuth2UserService defaultOAuth2UserService;
+    private final AuthMemberService authMemberService;
+    private final SocialMemberCacheRepository socialMemberCacheRepository;
     private final MemberRepository memberRepository;
     private final NicknameUtil nicknameUtil;
 
@@ -38,13 +47,12 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
         log.info("CustomOAuth2UserService.loadUser() 실행 - OAuth2 로그인 요청 진입");
 
         /*
-          DefaultOAuth2UserService 객체를 생성하여, loadUser(userRequest)를 통해 DefaultOAuth2User 객체를 생성 후 반환
+          공유 DefaultOAuth2UserService(OAuth2ClientConfig)의 loadUser(userRequest)를 통해 DefaultOAuth2User 객체를 생성 후 반환
           DefaultOAuth2UserService의 loadUser()는 소셜 로그인 API의 사용자 정보 제공 URI로 요청을 보내서
           사용자 정보를 얻은 후, 이를 통해 DefaultOAuth2User 객체를 생성 후 반환한다.
           결과적으로, OAuth2User는 OAuth 서비스에서 가져온 유저 정보를 담고 있는 유저
          */
-        OAuth2UserService<OAuth2UserRequest, OAuth2User> delegate = new DefaultOAuth2UserService();
-        OAuth2User oAuth2User = delegate.loadUser(userRequest);
+        OAuth2User oAuth2User = defaultOAuth2UserService.loadUser(userRequest);
 
         /*
           userRequest에서 registrationId 추출 후 registrationId으로 SocialType 저장
@@ -64,19 +72,66 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
         // socialType에 따라 유저 정보를 통해 OAuthAttributes 객체 생성
         OAuthAttributes extractAttributes = OAuthAttributes.of(socialType, userNameAttributeName, attributes);
 
+        String socialId = extractAttributes.getOauth2UserInfo().getId();
+        String socialAccessToken = userRequest.getAccessToken().getTokenValue();
+
+        // 캐시에 소셜 식별자 -> 회원 id가 있으면 회원 엔티티 조회 없이 소셜 액세스 토큰만 갱신한다.
+        Optional<AuthMemberDTO> cachedMember = findCachedMember(socialType, socialId);
+        if (cachedMember.isPresent()) {
+            AuthMemberDTO member = cachedMember.get();
+            if (MemberStatus.LEAVE.equals(member.memberStatus())) {
+                throw new MemberException.SuspendedMembershipException(socialId);
+            }
+            memberRepository.updateSocialAccessToken(member.memberId(), socialAccessToken);
+            return createOAuth2User(attributes, extractAttributes, member.memberId(), member.role());
+        }
+
         // getMember() 메소드로 Member 객체 생성 후 반환
         Member createdMember = getMember(extractAttributes, socialType);
 
         // 소셜 액세스 토큰을 저장합니다.
-        createdMember.updateSocialAccessToken(userRequest.getAccessToken().getTokenValue());
+        createdMember.updateSocialAccessToken(socialAccessToken);
+        socialMemberCacheRepository.save(socialType, socialId, createdMember.getId());
+
+        return createOAuth2User(attributes, extractAttributes, createdMember.getId(), createdMember.getRole());
+    }
 
-        // DefaultOAuth2User를 구현한 CustomOAuth2User 객체를 생성해서 반환
+    /**
+     * [캐시된 소셜 로그인 회원 조회 메소드]
+     * 소셜 식별자 -> 회원 id 캐시와 인증 회원 스냅샷 캐시를 차례로 확인한다.
+     * 회원이 물리 삭제되어 스냅샷을 찾을 수 없으면 캐시를 지우고 DB 조회 경로로 넘긴다.
+     */
+    private Optional<AuthMemberDTO> findCachedMember(
+            final SocialType socialType,
+            final String socialId
+    ) {
+        UUID memberId = socialMemberCacheRepository.findBySocialTypeAndSocialId(socialType, socialId);
+        if (memberId == null) {
+            return Optional.empty();
+        }
+
+        Optional<AuthMemberDTO> member = authMemberService.findByMemberId(memberId);
+        if (member.isEmpty()) {
+            socialMemberCacheRepository.delete(socialType, socialId);
+        }
+        return member;
+    }
+
+    /**
+     * DefaultOAuth2User를 구현한 CustomOAuth2User 객체를 생성해서 반환
+     */
+    private OAuth2User createOAuth2User(
+            final Map<String, Object> attributes,
+            final OAuthAttributes extractAttributes,
+            final UUID memberId,
+            final Role role
+    ) {
         return new CustomOAuth2User(
-                Collections.singleton(new SimpleGrantedAuthority(createdMember.getRole().getKey())),
+                Collections.singleton(new SimpleGrantedAuthority(role.getKey())),
                 attributes,
                 extractAttributes.getNameAttributeKey(),
-                createdMember.getId(),
-                createdMember.getRole()
+                memberId,
+                role
         );
     }
 
@@ -1,13 +1,15 @@
 package com.coverflow.global.oauth2.service;
 
 import com.coverflow.global.jwt.service.JwtService;
-import com.coverflow.global.util.AesUtil;
+import com.coverflow.member.application.AuthMemberService;
+import com.coverflow.member.application.RefreshTokenService;
 import com.coverflow.member.domain.Member;
 import com.coverflow.member.domain.MemberStatus;
 import com.coverflow.member.domain.RefreshTokenStatus;
 import com.coverflow.member.domain.Role;
 import com.coverflow.member.exception.MemberException;
 import com.coverflow.member.infrastructure.MemberRepository;
+import com.coverflow.visitor.application.UniqueVisitorService;
 import com.coverflow.visitor.application.VisitorService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,23 +24,22 @@ import java.util.UUID;
 public class OAuth2LoginService {
 
     private final JwtService jwtService;
+    private final AuthorizationCodeService authorizationCodeService;
     private final VisitorService visitorService;
+    private final UniqueVisitorService uniqueVisitorService;
+    private final AuthMemberService authMemberService;
+    private final RefreshTokenService refreshTokenService;
     private final MemberRepository memberRepository;
 
     @Transactional
     public String getToken(
             final String code
     ) {
-        // 인가 코드 디코딩
-        String decodingCode;
-        try {
-            decodingCode = AesUtil.decrypt(code);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        // 인가 코드 사용 (재사용/만료 코드는 DB 조회 전에 거부)
+        UUID memberId = authorizationCodeService.consume(code);
 
         // 회원 정보 가져오기
-        Member findMember = memberRepository.findById(UUID.fromString(decodingCode))
+        Member findMember = memberRepository.findById(memberId)
                 .orElseThrow(MemberException.MemberNotFoundException::new);
 
         // 신규 회원이라면 회원 상태 (대기 -> 등록), 회원 권한 (GUEST -> MEMBER)로 수정
@@ -56,19 +57,21 @@ public class OAuth2LoginService {
 
         // 액세스 토큰 + 리프레쉬 토큰 발급
         // 리프레쉬 토큰은 1회용(보안 강화)
-        String accessToken = jwtService.createAccessToken(String.valueOf(findMember.getId()), findMember.getRole());
+        String accessToken = jwtService.createAccessToken(String.valueOf(findMember.getId()), findMember.getRole(), findMember.getTokenVersion());
         String refreshToken = jwtService.createRefreshToken();
 
         // 리프레쉬 토큰 DB에 저장
         // 리프레쉬 토큰 상태 로그인으로 변경
-        findMember.updateRefreshToken(refreshToken);
+        refreshTokenService.save(findMember.getId(), refreshToken);
         findMember.updateTokenStatus(RefreshTokenStatus.LOGIN);
+        authMemberService.evict(findMember.getId());
 
         // 접속 시간 업데이트
         findMember.updateConnectedAt();
 
         // 일일 방문자 수 증가
         visitorService.update();
+        uniqueVisitorService.record(findMember.getId());
 
         return accessToken + "/" + refreshToken;
     }
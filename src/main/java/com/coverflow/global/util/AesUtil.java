@@ -4,65 +4,72 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Cipher;
-import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
+import java.util.Arrays;
 import java.util.Base64;
 
+/**
+ * AES 암복호화 유틸
+ * 키는 설정 주입 시 한 번만 만들고, Cipher는 스레드마다 하나씩 재사용한다.
+ * 암호문이 변조되면 복호화가 실패하도록 인증 태그를 붙이는 GCM 모드를 사용한다.
+ */
 @Component
 public class AesUtil {
-    private static final String ALGORITHM = "AES/CBC/PKCS5Padding";
+    private static final String ALGORITHM = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_LENGTH_BITS = 128;
     private static final SecureRandom secureRandom = new SecureRandom(); // 안전한 무작위 생성기
+    private static final ThreadLocal<Cipher> CIPHER = ThreadLocal.withInitial(() -> {
+        try {
+            return Cipher.getInstance(ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    });
 
-    private static String PRIVATE_KEY; // 암호화에 사용할 키 (16, 24, 32 bytes)
-
-    public static String getPrivateKey() {
-        return PRIVATE_KEY;
-    }
+    private static SecretKeySpec SECRET_KEY; // 암호화에 사용할 키 (16, 24, 32 bytes)
 
     @Value("${aes.private-key}")
     private void setPrivateKey(String key) {
-        AesUtil.PRIVATE_KEY = key;
+        AesUtil.SECRET_KEY = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "AES");
     }
 
-    public static String encrypt(final String plainText) throws Exception {
-        SecretKeySpec secretKey = new SecretKeySpec(getPrivateKey().getBytes(StandardCharsets.UTF_8), "AES");
-
+    public static String encrypt(final String plainText) throws GeneralSecurityException {
         // IV 생성
-        byte[] iv = new byte[16];
+        byte[] iv = new byte[IV_LENGTH];
         secureRandom.nextBytes(iv);
-        IvParameterSpec ivParameterSpec = new IvParameterSpec(iv);
 
-        Cipher cipher = Cipher.getInstance(ALGORITHM);
-        cipher.init(Cipher.ENCRYPT_MODE, secretKey, ivParameterSpec);
+        Cipher cipher = CIPHER.get();
+        cipher.init(Cipher.ENCRYPT_MODE, SECRET_KEY, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
 
-        byte[] encryptedBytes = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+        byte[] plainBytes = plainText.getBytes(StandardCharsets.UTF_8);
 
         // IV를 암호문 앞에 붙여서 반환
-        byte[] encryptedIVAndText = new byte[iv.length + encryptedBytes.length];
-        System.arraycopy(iv, 0, encryptedIVAndText, 0, iv.length);
-        System.arraycopy(encryptedBytes, 0, encryptedIVAndText, iv.length, encryptedBytes.length);
+        byte[] encryptedIVAndText = new byte[IV_LENGTH + cipher.getOutputSize(plainBytes.length)];
+        System.arraycopy(iv, 0, encryptedIVAndText, 0, IV_LENGTH);
+        int length = cipher.doFinal(plainBytes, 0, plainBytes.length, encryptedIVAndText, IV_LENGTH);
 
-        return Base64.getUrlEncoder().encodeToString(encryptedIVAndText);
+        return Base64.getUrlEncoder().encodeToString(Arrays.copyOf(encryptedIVAndText, IV_LENGTH + length));
     }
 
-    public static String decrypt(final String encryptedIvText) throws Exception {
+    /**
+     * 잘못된 Base64면 IllegalArgumentException, 변조된 암호문이면 GeneralSecurityException
+     */
+    public static String decrypt(final String encryptedIvText) throws GeneralSecurityException {
         byte[] decoded = Base64.getUrlDecoder().decode(encryptedIvText);
+        if (decoded.length <= IV_LENGTH) {
+            throw new IllegalArgumentException("암호문이 너무 짧습니다.");
+        }
 
-        // IV와 암호문 분리
-        byte[] iv = new byte[16];
-        byte[] encryptedText = new byte[decoded.length - iv.length];
-        System.arraycopy(decoded, 0, iv, 0, iv.length);
-        System.arraycopy(decoded, iv.length, encryptedText, 0, encryptedText.length);
-
-        SecretKeySpec secretKey = new SecretKeySpec(getPrivateKey().getBytes(StandardCharsets.UTF_8), "AES");
-        IvParameterSpec ivParameterSpec = new IvParameterSpec(iv);
-
-        Cipher cipher = Cipher.getInstance(ALGORITHM);
-        cipher.init(Cipher.DECRYPT_MODE, secretKey, ivParameterSpec);
+        // IV와 암호문 분리 (복사 없이 오프셋으로 처리)
+        Cipher cipher = CIPHER.get();
+        cipher.init(Cipher.DECRYPT_MODE, SECRET_KEY, new GCMParameterSpec(TAG_LENGTH_BITS, decoded, 0, IV_LENGTH));
 
-        byte[] decryptedBytes = cipher.doFinal(encryptedText);
+        byte[] decryptedBytes = cipher.doFinal(decoded, IV_LENGTH, decoded.length - IV_LENGTH);
 
         return new String(decryptedBytes, StandardCharsets.UTF_8);
     }
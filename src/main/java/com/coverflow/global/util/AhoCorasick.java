@@ -0,0 +1,106 @@
+package com.coverflow.global.util;
+
+import java.util.*;
+
+/**
+ * Aho-Corasick 오토마타
+ * 여러 단어를 한 번에 컴파일해 두고, 입력을 한 번만 훑어 단어 포함 여부를 판별한다. (O(입력 길이))
+ * 컴파일 후에는 불변이므로 여러 스레드가 동시에 사용해도 된다.
+ */
+public class AhoCorasick {
+
+    private static final int ROOT = 0;
+
+    private final char[][] keys; // 노드별 간선 문자 (정렬됨)
+    private final int[][] next; // 노드별 간선 목적지
+    private final int[] fail;
+    private final boolean[] output; // 이 노드에서 끝나는 단어(실패 링크 포함)가 있는지
+
+    public AhoCorasick(final Collection<String> words) {
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<Boolean> terminal = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        terminal.add(false);
+
+        for (String word : words) {
+            if (word == null || word.isEmpty()) {
+                continue;
+            }
+            int node = ROOT;
+            for (int i = 0; i < word.length(); i++) {
+                Integer child = trie.get(node).get(word.charAt(i));
+                if (child == null) {
+                    child = trie.size();
+                    trie.add(new TreeMap<>());
+                    terminal.add(false);
+                    trie.get(node).put(word.charAt(i), child);
+                }
+                node = child;
+            }
+            terminal.set(node, true);
+        }
+
+        int size = trie.size();
+        this.keys = new char[size][];
+        this.next = new int[size][];
+        this.fail = new int[size];
+        this.output = new boolean[size];
+        for (int node = 0; node < size; node++) {
+            Map<Character, Integer> edges = trie.get(node);
+            keys[node] = new char[edges.size()];
+            next[node] = new int[edges.size()];
+            int index = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                keys[node][index] = edge.getKey();
+                next[node][index++] = edge.getValue();
+            }
+            output[node] = terminal.get(node);
+        }
+
+        // 너비 우선으로 실패 링크 계산
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : next[ROOT]) {
+            fail[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < keys[node].length; i++) {
+                int child = next[node][i];
+                fail[child] = step(fail[node], keys[node][i]);
+                output[child] |= output[fail[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * [단어 포함 여부 메서드]
+     */
+    public boolean containsAny(final CharSequence text) {
+        int node = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            node = step(node, text.charAt(i));
+            if (output[node]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int step(
+            int node,
+            final char c
+    ) {
+        while (true) {
+            int index = Arrays.binarySearch(keys[node], c);
+            if (index >= 0) {
+                return next[node][index];
+            }
+            if (node == ROOT) {
+                return ROOT;
+            }
+            node = fail[node];
+        }
+    }
+}
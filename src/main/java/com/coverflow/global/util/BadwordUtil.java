@@ -4,12 +4,57 @@ import com.coverflow.global.exception.GlobalException;
 import com.vane.badwordfiltering.BadWordFiltering;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 비속어 검사
+ * 라이브러리 기본 단어 + 관리자가 추가한 단어(BadwordService)를 정규화해 Aho-Corasick 오토마타로 컴파일한다.
+ * 새 사전은 다른 스레드에서 통째로 만든 뒤 참조만 교체하므로, 검사 중인 요청은 잠금 없이 이전 사전이나 새 사전 중 하나만 본다.
+ */
 @Component
 public class BadwordUtil {
 
-    public static void check(final String word) {
-        if (new BadWordFiltering().check(word)) {
-            throw new GlobalException.ExistBadwordException();
+    private static final Set<String> DEFAULT_WORDS = loadDefaultWords();
+    private static final AtomicReference<AhoCorasick> BADWORDS = new AtomicReference<>(new AhoCorasick(DEFAULT_WORDS));
+
+    public static void check(final String... texts) {
+        AhoCorasick badwords = BADWORDS.get();
+        for (String text : texts) {
+            if (text != null && badwords.containsAny(HangulNormalizer.normalize(text))) {
+                throw new GlobalException.ExistBadwordException();
+            }
+        }
+    }
+
+    /**
+     * [사전 교체 메서드]
+     * 기본 단어 + 추가 단어로 새 오토마타를 컴파일해 교체하고, 사전의 단어 수를 반환한다.
+     */
+    public static int publish(final Collection<String> words) {
+        Set<String> allWords = new HashSet<>(DEFAULT_WORDS);
+        words.forEach(word -> addNormalized(allWords, word));
+        BADWORDS.set(new AhoCorasick(allWords));
+        return allWords.size();
+    }
+
+    private static Set<String> loadDefaultWords() {
+        Set<String> words = new HashSet<>();
+        for (String word : new BadWordFiltering()) {
+            addNormalized(words, word);
+        }
+        return words;
+    }
+
+    private static void addNormalized(
+            final Set<String> words,
+            final String word
+    ) {
+        String normalized = HangulNormalizer.normalize(word);
+        if (!normalized.isEmpty()) {
+            words.add(normalized);
         }
     }
 }
@@ -0,0 +1,75 @@
+package com.coverflow.global.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 블룸 필터
+ * mightContain()이 false면 확실히 없는 key, true면 있을 수도 있는 key
+ * 비트 배열은 AtomicLongArray라 잠금 없이 동시에 추가/조회할 수 있다.
+ */
+public class BloomFilter {
+
+    private final int bitSize;
+    private final int hashCount;
+    private final AtomicLongArray bits;
+
+    public BloomFilter(
+            final int bitSize,
+            final int hashCount
+    ) {
+        if (Integer.bitCount(bitSize) != 1 || bitSize < Long.SIZE || hashCount < 1) {
+            throw new IllegalArgumentException("bitSize는 64 이상의 2의 거듭제곱, hashCount는 1 이상이어야 합니다.");
+        }
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+        this.bits = new AtomicLongArray(bitSize / Long.SIZE);
+    }
+
+    public void add(final long key) {
+        long hash1 = mix(key);
+        long hash2 = mix(hash1) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            int bit = (int) ((hash1 + i * hash2) & (bitSize - 1));
+            int index = bit >>> 6;
+            long mask = 1L << bit;
+
+            long current;
+            do {
+                current = bits.get(index);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(index, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(final long key) {
+        long hash1 = mix(key);
+        long hash2 = mix(hash1) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            int bit = (int) ((hash1 + i * hash2) & (bitSize - 1));
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void clear() {
+        for (int i = 0; i < bits.length(); i++) {
+            bits.set(i, 0);
+        }
+    }
+
+    // murmur3 64bit finalizer
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
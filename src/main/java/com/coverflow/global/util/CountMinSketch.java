@@ -0,0 +1,85 @@
+package com.coverflow.global.util;
+
+import java.util.Arrays;
+
+/**
+ * Count-Min 스케치
+ * 고정된 메모리(depth x width)로 key별 빈도의 상한 추정치를 제공한다.
+ * 모든 카운터에 같은 비율을 곱해 오래된 빈도를 감쇠시킬 수 있다.
+ */
+public class CountMinSketch {
+
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x27BB2EE687B0B0FDL, 0x94D049BB133111EBL
+    };
+
+    private final int depth;
+    private final int width;
+    private final double[] counts;
+
+    public CountMinSketch(
+            final int depth,
+            final int width
+    ) {
+        if (depth < 1 || depth > SEEDS.length || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("depth는 1~8, width는 2의 거듭제곱이어야 합니다.");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.counts = new double[depth * width];
+    }
+
+    /**
+     * [빈도 추가 메서드]
+     * 추가 후의 추정치를 반환한다.
+     */
+    public synchronized double add(
+            final long key,
+            final double weight
+    ) {
+        double estimate = Double.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int index = index(row, key);
+            counts[index] += weight;
+            estimate = Math.min(estimate, counts[index]);
+        }
+        return estimate;
+    }
+
+    /**
+     * [빈도 추정 메서드]
+     */
+    public synchronized double estimate(final long key) {
+        double estimate = Double.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counts[index(row, key)]);
+        }
+        return estimate;
+    }
+
+    /**
+     * [감쇠 메서드]
+     * 모든 카운터에 factor(0~1)를 곱한다.
+     */
+    public synchronized void decay(final double factor) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] *= factor;
+        }
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(counts, 0);
+    }
+
+    private int index(
+            final int row,
+            final long key
+    ) {
+        long hash = (key ^ SEEDS[row]) * 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return row * width + (int) (hash & (width - 1));
+    }
+}
@@ -0,0 +1,96 @@
+package com.coverflow.global.util;
+
+/**
+ * 비속어 검사용 한글 정규화
+ * 1. 글자/숫자가 아닌 문자(공백, 기호, 이모지)로 끊긴 조각 중 한 글자짜리 조각만 연속된 경우(시 발, ㅅ.ㅂ)만 이어 붙이고,
+ *    한 글자 조각과 여러 글자 단어 사이에는 공백 하나를 남겨 단어 경계를 넘는 오탐(로그인 시 발생, 회의시 발표)을 막는다.
+ *    영문은 소문자로 바꾼다.
+ * 2. 자모로 풀어 쓴 글자(ㅅㅣㅂㅏㄹ)를 완성형 음절(시발)로 다시 조합한다.
+ */
+public class HangulNormalizer {
+
+    private static final char BOUNDARY = ' ';
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONGSEONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    private HangulNormalizer() {
+    }
+
+    public static String normalize(final String text) {
+        StringBuilder result = new StringBuilder(text.length());
+        StringBuilder fragments = new StringBuilder();
+        int i = 0;
+        while (i < text.length()) {
+            if (!Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+                continue;
+            }
+
+            int start = i;
+            while (i < text.length() && Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+            }
+            String letters = text.substring(start, i).toLowerCase();
+            String token = compose(letters);
+
+            // 한 글자 조각(ㅅ, 시, ㅅㅣ)은 모아 두었다가 한 단어로 조합한다.
+            if (token.length() == 1) {
+                fragments.append(letters);
+                continue;
+            }
+            appendFragments(result, fragments);
+            appendWord(result, token);
+        }
+        appendFragments(result, fragments);
+        return result.toString();
+    }
+
+    private static void appendFragments(
+            final StringBuilder result,
+            final StringBuilder fragments
+    ) {
+        if (!fragments.isEmpty()) {
+            appendWord(result, compose(fragments));
+            fragments.setLength(0);
+        }
+    }
+
+    private static void appendWord(
+            final StringBuilder result,
+            final String word
+    ) {
+        if (!result.isEmpty()) {
+            result.append(BOUNDARY);
+        }
+        result.append(word);
+    }
+
+    // 초성 + 중성 (+ 다음 글자가 모음이 아닐 때만 종성)을 하나의 음절로 조합
+    private static String compose(final CharSequence letters) {
+        StringBuilder result = new StringBuilder(letters.length());
+        int i = 0;
+        while (i < letters.length()) {
+            int choseong = CHOSEONG.indexOf(letters.charAt(i));
+            int jungseong = i + 1 < letters.length() ? JUNGSEONG.indexOf(letters.charAt(i + 1)) : -1;
+            if (choseong < 0 || jungseong < 0) {
+                result.append(letters.charAt(i++));
+                continue;
+            }
+
+            int jongseong = 0;
+            if (i + 2 < letters.length()) {
+                int candidate = JONGSEONG.indexOf(letters.charAt(i + 2));
+                boolean nextIsVowel = i + 3 < letters.length() && JUNGSEONG.indexOf(letters.charAt(i + 3)) >= 0;
+                if (candidate > 0 && !nextIsVowel) {
+                    jongseong = candidate;
+                }
+            }
+
+            result.append((char) (SYLLABLE_BASE + (choseong * 21 + jungseong) * 28 + jongseong));
+            i += jongseong > 0 ? 3 : 2;
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,34 @@
+package com.coverflow.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 해시 유틸
+ * MessageDigest는 스레드 안전하지 않으므로 스레드마다 하나씩 재사용한다.
+ */
+public class HashUtil {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    public static byte[] sha256(final String value) {
+        MessageDigest messageDigest = SHA_256.get();
+        messageDigest.reset();
+        return messageDigest.digest(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 64자 고정 길이 16진수 문자열
+     */
+    public static String sha256Hex(final String value) {
+        return HexFormat.of().formatHex(sha256(value));
+    }
+}
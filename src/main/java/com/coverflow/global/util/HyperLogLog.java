@@ -0,0 +1,133 @@
+package com.coverflow.global.util;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * HyperLogLog
+ * 고정된 메모리(2^PRECISION 바이트)로 서로 다른 key의 개수를 추정한다. (표준 오차 약 1.6%)
+ * 같은 설정의 스케치끼리는 레지스터별 최댓값으로 병합할 수 있어 일 -> 주/월 집계가 가능하다.
+ * 요청 스레드마다 add()를 호출하므로 락 없이 동작한다.
+ */
+public class HyperLogLog {
+
+    private static final int PRECISION = 12;
+    public static final int REGISTER_COUNT = 1 << PRECISION;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+    private static final int REGISTERS_PER_WORD = 4;
+    private static final int REGISTER_BITS = Byte.SIZE;
+    private static final int REGISTER_MASK = 0xFF;
+
+    /**
+     * 레지스터 4개(각 1바이트)를 int 하나에 담고, 갱신은 락 없이 CAS로 처리한다.
+     * 레지스터 값은 커지기만 하므로 이미 큰 값이 있으면 쓰기 없이 끝난다.
+     */
+    private final AtomicIntegerArray words;
+
+    public HyperLogLog() {
+        this.words = new AtomicIntegerArray(REGISTER_COUNT / REGISTERS_PER_WORD);
+    }
+
+    /**
+     * [바이트 배열로부터 복원하는 메서드]
+     */
+    public static HyperLogLog from(final byte[] bytes) {
+        if (bytes == null || bytes.length != REGISTER_COUNT) {
+            throw new IllegalArgumentException("HyperLogLog 레지스터 크기는 " + REGISTER_COUNT + "바이트여야 합니다.");
+        }
+        HyperLogLog hyperLogLog = new HyperLogLog();
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            hyperLogLog.updateRegister(i, bytes[i]);
+        }
+        return hyperLogLog;
+    }
+
+    /**
+     * [key 추가 메서드]
+     * 해시 상위 PRECISION비트로 레지스터를 고르고, 나머지 비트의 선행 0 개수 + 1을 기록한다.
+     */
+    public void add(final long key) {
+        long hash = mix(key);
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        int rank = Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1;
+        updateRegister(index, rank);
+    }
+
+    /**
+     * [병합 메서드]
+     * 레지스터별 최댓값
+     */
+    public void merge(final HyperLogLog other) {
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            updateRegister(i, other.register(i));
+        }
+    }
+
+    /**
+     * [개수 추정 메서드]
+     * 비어 있는 레지스터가 많은 작은 범위에서는 선형 카운팅으로 보정한다.
+     */
+    public long estimate() {
+        double sum = 0;
+        int zeroCount = 0;
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            int register = register(i);
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeroCount++;
+            }
+        }
+
+        double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        if (estimate <= 2.5 * REGISTER_COUNT && zeroCount > 0) {
+            estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeroCount);
+        }
+        return Math.round(estimate);
+    }
+
+    public byte[] toByteArray() {
+        byte[] bytes = new byte[REGISTER_COUNT];
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            bytes[i] = (byte) register(i);
+        }
+        return bytes;
+    }
+
+    private int register(final int index) {
+        int word = words.get(index / REGISTERS_PER_WORD);
+        return (word >>> shift(index)) & REGISTER_MASK;
+    }
+
+    /**
+     * 레지스터 값을 rank와의 최댓값으로 갱신 (같은 int를 공유하는 다른 레지스터가 바뀌었으면 다시 시도)
+     */
+    private void updateRegister(
+            final int index,
+            final int rank
+    ) {
+        int wordIndex = index / REGISTERS_PER_WORD;
+        int shift = shift(index);
+        int word = words.get(wordIndex);
+        while (((word >>> shift) & REGISTER_MASK) < rank) {
+            int updated = (word & ~(REGISTER_MASK << shift)) | (rank << shift);
+            int witness = words.compareAndExchange(wordIndex, word, updated);
+            if (witness == word) {
+                return;
+            }
+            word = witness;
+        }
+    }
+
+    private static int shift(final int index) {
+        return (index % REGISTERS_PER_WORD) * REGISTER_BITS;
+    }
+
+    // murmur3 64bit finalizer
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
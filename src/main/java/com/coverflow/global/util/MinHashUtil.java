@@ -0,0 +1,97 @@
+package com.coverflow.global.util;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 문자 3-gram 기반 MinHash 서명 유틸
+ * 서명 간 일치 비율로 두 텍스트의 자카드 유사도를 추정한다.
+ */
+public class MinHashUtil {
+
+    public static final int SIGNATURE_SIZE = 64; // 해시 함수 개수
+    private static final int SHINGLE_SIZE = 3; // 문자 n-gram 크기
+    private static final int[] COEFFICIENTS = new int[SIGNATURE_SIZE];
+    private static final int[] OFFSETS = new int[SIGNATURE_SIZE];
+
+    static {
+        // 서버 재시작 후에도 같은 서명이 나오도록 시드 고정
+        Random random = new Random(0x5EED_C0FFL);
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            COEFFICIENTS[i] = random.nextInt() | 1;
+            OFFSETS[i] = random.nextInt();
+        }
+    }
+
+    /**
+     * [MinHash 서명 생성 메서드]
+     * 공백과 기호를 제거한 텍스트의 3-gram마다 해시 함수별 최솟값을 남긴다.
+     */
+    public static int[] generateSignature(final String text) {
+        String normalized = normalize(text);
+        int[] signature = new int[SIGNATURE_SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        if (normalized.isEmpty()) {
+            return signature;
+        }
+
+        int shingleCount = Math.max(1, normalized.length() - SHINGLE_SIZE + 1);
+        for (int i = 0; i < shingleCount; i++) {
+            int shingle = 0;
+            for (int j = i; j < Math.min(i + SHINGLE_SIZE, normalized.length()); j++) {
+                shingle = 31 * shingle + normalized.charAt(j);
+            }
+
+            for (int k = 0; k < SIGNATURE_SIZE; k++) {
+                int hash = mix(shingle * COEFFICIENTS[k] + OFFSETS[k]);
+                if (hash < signature[k]) {
+                    signature[k] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * [추정 유사도 계산 메서드]
+     * 두 서명에서 값이 같은 위치의 비율 = 자카드 유사도 추정치
+     */
+    public static double similarity(
+            final int[] signature,
+            final int[] otherSignature
+    ) {
+        int matched = 0;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            if (signature[i] == otherSignature[i]) {
+                matched++;
+            }
+        }
+        return (double) matched / SIGNATURE_SIZE;
+    }
+
+    private static String normalize(final String text) {
+        if (text == null) {
+            return "";
+        }
+
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    // murmur3 finalizer
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
@@ -3,63 +3,225 @@ package com.coverflow.global.util;
 import com.coverflow.member.domain.Member;
 import com.coverflow.member.infrastructure.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
 
+/**
+ * 랜덤 닉네임 할당기
+ * (형용사 x 음식) 조합마다 번호를 붙이고, 사용 가능한 번호만 모아둔 배열에서 무작위로 하나를 꺼낸다.
+ * 꺼낸 번호는 배열 마지막 원소와 자리를 바꿔 제거하므로 선택/반납 모두 O(1)이다.
+ * 할당할 때 DB를 조회하지 않고, 다른 서버가 이미 가져간 닉네임과의 충돌은 닉네임 유니크 인덱스가 막는다. (409 응답)
+ * 충돌한 닉네임은 롤백 후에도 사용 중으로 남으므로 같은 닉네임이 다시 뽑히지 않는다.
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class NicknameUtil {
 
+    private static final String[] FIRST_NAMES = Stream.of(
+            "행복한", "슬픈", "게으른", "슬기로운", "수줍은", "아름다운", "귀여운", "멋진", "훌륭한", "어지러운", // 10개
+            "큰", "맛있는", "달콤한", "그리운", "더러운", "배고픈", "배부른", "화난", "빠른", "느린", // 20개
+            "뜨거운", "차가운", "높은", "낮은", "부드러운", "딱딱한", "평화로운", "웃고있는", "깨발랄한", "활발한", // 30개
+            "졸린", "적당한", "좋은", "어려운", "무거운", "가벼운", "싱싱한", "신선한", "건조한", "향기로운", // 40개
+            "무취의", "강력한", "강인한", "쎈", "긴", "짧은", "빛나는", "투명한", "날카로운", "신기한",  // 50개
+            "능숙한", "서툰", "유쾌한", "우울한", "재밌는", "친절한", "조용한", "적극적인", "튼튼한", "넓은", // 60개
+            "깊은", "놀라운", "평범한", "섬세한", "거친", "똑똑한", "영리한", "자유로운", "어리석은", "두꺼운", // 70개
+            "얇은", "성공적인", "웃기는", "시끄러운", "부드러운", "강한", "더운", "추운", "현명한", "시원한", // 80개
+            "따뜻한", "풍족한", "희망찬", "무지한", "고요한", "편안한", "불편한", "웅장한", "조그마한", "창창한", // 90개
+            "빈번한", "드물게", "창조적인", "보수적인", "진보적인", "밝은", "어두운", "포근한", "듬직한", "무서운", // 100개
+            "건방진", "장난하는", "달달한", "덜매운", "살살녹는", "토실토실한", "알싸한", "깨알같은", "섭섭한", "어마어마한", // 110개
+            "어마무시한", "찰진", "구수한", "싱거운", "매운", "짭쪼름한", "힘든", "비틀거리는", "약한", "가냘픈" // 120개
+    ).distinct().toArray(String[]::new);
+    private static final String[] SECOND_NAMES = Stream.of(
+            "치즈피자", "파스타", "스테이크", "샐러드", "불고기버거", "초밥", "카레", "치즈김밥", "만두", "라면", // 10개
+            "볶음밥", "타코", "샌드위치", "치킨", "수프", "스시", "닭갈비", "갈비찜", "곱창", "떡볶이", // 20개
+            "부대찌개", "치즈카츠", "삼겹살", "라멘", "김치찌개", "감자튀김", "생선구이", "불고기", "오므라이스", "카레라이스", // 30개
+            "스파게티", "해물찜", "갈비탕", "새우튀김", "매운탕", "베이컨", "소시지", "콩나물국밥", "김치볶음밥", "해물파전", // 40개
+            "샤브샤브", "훈제오리", "감자전", "삼계탕", "제육볶음", "누룽지", "동태찌개", "불닭볶음면", "잔치국수", "꼬치구이",  // 50개
+            "새우볶음밥", "닭볶음탕", "냉면", "팟타이", "찜닭", "고등어조림", "해물탕", "쭈꾸미볶음", "소고기국밥", "버팔로윙", // 60개
+            "라볶이", "떡국", "새우깡", "감자탕", "떡갈비", "부타동", "돼지불백", "김치전", "탕수육", "김치찜", // 70개
+            "순두부찌개", "된장찌개", "닭꼬치", "치즈돈까스", "왕돈까스", "등심돈까스", "안심돈까스", "등심카츠", "안심카츠", "고구마튀김", // 80개
+            "김말이", "쫄면", "참치김밥", "삼겹살김밥", "순대국밥", "육개장", "치즈케이크", "미역국", "수육국밥", "갈치조림", // 90개
+            "대창전골", "곱창전골", "낙곱새", "대창", "모츠나베", "교동", "우동", "치즈버거", "불고기피자", "마라탕", // 100개
+            "부채살", "목살", "오겹살", "흑임자호빵", "고구마호빵", "팥호빵", "피자호빵", "팥붕어빵", "슈붕어빵", "호떡", // 110개
+            "밤양갱", "필라프", "가츠동", "사케동", "규동", "텐동", "타코야끼", "호두과자", "츄러스", "국화빵" // 120개
+    ).distinct().toArray(String[]::new);
+    private static final int COMBINATION_COUNT = FIRST_NAMES.length * SECOND_NAMES.length;
+    private static final Map<String, Integer> FIRST_NAME_INDEX = indexOf(FIRST_NAMES);
+    private static final Map<String, Integer> SECOND_NAME_INDEX = indexOf(SECOND_NAMES);
+
     public final MemberRepository memberRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final int[] freeCombinations = new int[COMBINATION_COUNT]; // 사용 가능한 조합 번호 (앞 freeCount개만 유효)
+    private final int[] positions = new int[COMBINATION_COUNT]; // 조합 번호 -> freeCombinations 내 위치 (사용 중이면 -1)
+    private int freeCount;
+
+    {
+        reset();
+    }
 
+    /**
+     * [랜덤 닉네임 발급 메서드]
+     * 사용 가능한 조합 중 하나를 균등한 확률로 예약 (DB 조회 없음)
+     * 트랜잭션이 롤백되면, 닉네임이 DB에 없는 경우(유니크 인덱스 충돌이 아닌 경우)에만 반납
+     */
     public String generateRandomNickname() {
-        List<String> firstName = Arrays.asList(
-                "행복한", "슬픈", "게으른", "슬기로운", "수줍은", "아름다운", "귀여운", "멋진", "훌륭한", "어지러운", // 10개
-                "큰", "맛있는", "달콤한", "그리운", "더러운", "배고픈", "배부른", "화난", "빠른", "느린", // 20개
-                "뜨거운", "차가운", "높은", "낮은", "부드러운", "딱딱한", "평화로운", "웃고있는", "깨발랄한", "활발한", // 30개
-                "졸린", "적당한", "좋은", "어려운", "무거운", "가벼운", "싱싱한", "신선한", "건조한", "향기로운", // 40개
-                "무취의", "강력한", "강인한", "쎈", "긴", "짧은", "빛나는", "투명한", "날카로운", "신기한",  // 50개
-                "능숙한", "서툰", "유쾌한", "우울한", "재밌는", "친절한", "조용한", "적극적인", "튼튼한", "넓은", // 60개
-                "깊은", "놀라운", "평범한", "섬세한", "거친", "똑똑한", "영리한", "자유로운", "어리석은", "두꺼운", // 70개
-                "얇은", "성공적인", "웃기는", "시끄러운", "부드러운", "강한", "더운", "추운", "현명한", "시원한", // 80개
-                "따뜻한", "풍족한", "희망찬", "무지한", "고요한", "편안한", "불편한", "웅장한", "조그마한", "창창한", // 90개
-                "빈번한", "드물게", "창조적인", "보수적인", "진보적인", "밝은", "어두운", "포근한", "듬직한", "무서운", // 100개
-                "건방진", "장난하는", "달달한", "덜매운", "살살녹는", "토실토실한", "알싸한", "깨알같은", "섭섭한", "어마어마한", // 110개
-                "어마무시한", "찰진", "구수한", "싱거운", "매운", "짭쪼름한", "힘든", "비틀거리는", "약한", "가냘픈" // 120개
-        );
-        List<String> secondName = Arrays.asList(
-                "치즈피자", "파스타", "스테이크", "샐러드", "불고기버거", "초밥", "카레", "치즈김밥", "만두", "라면", // 10개
-                "볶음밥", "타코", "샌드위치", "치킨", "수프", "스시", "닭갈비", "갈비찜", "곱창", "떡볶이", // 20개
-                "부대찌개", "치즈카츠", "삼겹살", "라멘", "김치찌개", "감자튀김", "생선구이", "불고기", "오므라이스", "카레라이스", // 30개
-                "스파게티", "해물찜", "갈비탕", "새우튀김", "매운탕", "베이컨", "소시지", "콩나물국밥", "김치볶음밥", "해물파전", // 40개
-                "샤브샤브", "훈제오리", "감자전", "삼계탕", "제육볶음", "누룽지", "동태찌개", "불닭볶음면", "잔치국수", "꼬치구이",  // 50개
-                "새우볶음밥", "닭볶음탕", "냉면", "팟타이", "찜닭", "고등어조림", "해물탕", "쭈꾸미볶음", "소고기국밥", "버팔로윙", // 60개
-                "라볶이", "떡국", "새우깡", "감자탕", "떡갈비", "부타동", "돼지불백", "김치전", "탕수육", "김치찜", // 70개
-                "순두부찌개", "된장찌개", "닭꼬치", "치즈돈까스", "왕돈까스", "등심돈까스", "안심돈까스", "등심카츠", "안심카츠", "고구마튀김", // 80개
-                "김말이", "쫄면", "참치김밥", "삼겹살김밥", "순대국밥", "육개장", "치즈케이크", "미역국", "수육국밥", "갈치조림", // 90개
-                "대창전골", "곱창전골", "낙곱새", "대창", "모츠나베", "교동", "우동", "치즈버거", "불고기피자", "마라탕", // 100개
-                "부채살", "목살", "오겹살", "흑임자호빵", "고구마호빵", "팥호빵", "피자호빵", "팥붕어빵", "슈붕어빵", "호떡", // 110개
-                "밤양갱", "필라프", "가츠동", "사케동", "규동", "텐동", "타코야끼", "호두과자", "츄러스", "국화빵" // 120개
-        );
-        String nickname;
-        Optional<Member> member;
-
-        do {
-            Collections.shuffle(firstName);
-            Collections.shuffle(secondName);
-
-            nickname = firstName.get(0) + " " + secondName.get(0);
-
-            member = memberRepository.findByNickname(nickname);
-
-        } while (member.isPresent()
-                || firstName.get(0).isEmpty()
-                || secondName.get(0).isEmpty()); // 해당 닉네임을 가진 회원이 존재 or 첫 번째 이름이나 두 번째 이름이 없으면 계속 반복
+        String nickname = reserve();
 
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    if (status != STATUS_COMMITTED && !isTaken(nickname)) {
+                        free(nickname);
+                    }
+                }
+            });
+        }
         return nickname; // 유일한 닉네임 반환
     }
+
+    /**
+     * [닉네임 충돌 확인 메서드]
+     * 닉네임 유니크 인덱스 위반인지 확인 (다른 제약 조건 위반은 false)
+     */
+    public static boolean isNicknameConflict(final DataIntegrityViolationException exception) {
+        for (Throwable cause = exception.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return violation.getConstraintName() != null
+                        && violation.getConstraintName().endsWith(Member.NICKNAME_INDEX);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * [닉네임 반납 메서드]
+     * 닉네임 변경, 회원 삭제 시 호출 (트랜잭션 중이면 커밋 후 반납)
+     */
+    public void release(final String nickname) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    free(nickname);
+                }
+            });
+            return;
+        }
+        free(nickname);
+    }
+
+    /**
+     * [사용 중인 닉네임 불러오기 메서드]
+     * 서버 시작 시 회원 닉네임을 스트리밍 조회로 읽어 사용 중으로 표시
+     * 이미 요청을 받는 중일 수 있으므로 초기화하지 않고, 그사이 예약된 닉네임은 사용 중으로 그대로 둔다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        synchronized (this) {
+            try (Stream<String> nicknames = memberRepository.findAllNicknames()) {
+                nicknames.forEach(this::markUsed);
+            }
+        }
+        log.info("닉네임 할당기 초기화 완료 (사용 가능 {}개)", freeCount);
+    }
+
+    // 롤백 이후 호출되므로 새 트랜잭션(프라이머리)에서 확인한다.
+    private boolean isTaken(final String nickname) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> memberRepository.existsByNickname(nickname)));
+    }
+
+    private synchronized String reserve() {
+        if (freeCount == 0) {
+            throw new IllegalStateException("사용 가능한 닉네임이 없습니다.");
+        }
+
+        int combination = freeCombinations[ThreadLocalRandom.current().nextInt(freeCount)];
+        markUsed(combination);
+        return FIRST_NAMES[combination / SECOND_NAMES.length] + " " + SECOND_NAMES[combination % SECOND_NAMES.length];
+    }
+
+    private synchronized void free(final String nickname) {
+        int combination = combinationOf(nickname);
+        if (combination < 0 || positions[combination] >= 0) {
+            return;
+        }
+
+        freeCombinations[freeCount] = combination;
+        positions[combination] = freeCount++;
+    }
+
+    private void markUsed(final String nickname) {
+        int combination = combinationOf(nickname);
+        if (combination >= 0) {
+            markUsed(combination);
+        }
+    }
+
+    // 마지막 원소를 빈 자리로 옮겨 제거
+    private void markUsed(final int combination) {
+        int position = positions[combination];
+        if (position < 0) {
+            return;
+        }
+
+        int last = freeCombinations[--freeCount];
+        freeCombinations[position] = last;
+        positions[last] = position;
+        positions[combination] = -1;
+    }
+
+    private void reset() {
+        for (int i = 0; i < COMBINATION_COUNT; i++) {
+            freeCombinations[i] = i;
+            positions[i] = i;
+        }
+        freeCount = COMBINATION_COUNT;
+    }
+
+    private static int combinationOf(final String nickname) {
+        if (nickname == null) {
+            return -1;
+        }
+
+        int separator = nickname.indexOf(' ');
+        if (separator < 0) {
+            return -1;
+        }
+
+        Integer first = FIRST_NAME_INDEX.get(nickname.substring(0, separator));
+        Integer second = SECOND_NAME_INDEX.get(nickname.substring(separator + 1));
+        if (first == null || second == null) {
+            return -1;
+        }
+        return first * SECOND_NAMES.length + second;
+    }
+
+    private static Map<String, Integer> indexOf(final String[] names) {
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            index.put(names[i], i);
+        }
+        return index;
+    }
 }
@@ -0,0 +1,29 @@
+package com.coverflow.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 커밋 후 실행 도우미
+ * 메모리 집계(통계, 랭킹, 서명, 인기 질문 등)는 롤백되지 않으므로 트랜잭션이 커밋된 뒤에만 반영한다.
+ * 트랜잭션 밖에서 호출하면 바로 실행한다.
+ */
+public class TransactionUtil {
+
+    private TransactionUtil() {
+    }
+
+    public static void afterCommit(final Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
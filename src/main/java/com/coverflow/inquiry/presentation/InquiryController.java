@@ -76,8 +76,7 @@ public class InquiryController {
             @RequestBody @Valid final SaveInquiryRequest request,
             @AuthenticationPrincipal final UserDetails userDetails
     ) {
-        BadwordUtil.check(request.title());
-        BadwordUtil.check(request.content());
+        BadwordUtil.check(request.title(), request.content());
         inquiryService.save(request, userDetails.getUsername());
         return ResponseEntity.ok()
                 .body(ResponseHandler.<Void>builder()
@@ -0,0 +1,90 @@
+package com.coverflow.member.application;
+
+import com.coverflow.member.domain.CurrencyReason;
+import com.coverflow.member.infrastructure.AttendanceRepository;
+import com.coverflow.member.infrastructure.DailyAttendanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class AttendanceService {
+
+    private static final int ATTENDANCE_REWARD = 5;
+
+    private final CurrencyService currencyService;
+    private final AttendanceRepository attendanceRepository;
+    private final DailyAttendanceRepository dailyAttendanceRepository;
+
+    /**
+     * [출석 체크 메서드]
+     * 당일 첫 연결 시 출석 기록 후 화폐 5 증가
+     * 이미 출석한 회원은 메모리 조회만 하고 DB에 접근하지 않는다.
+     * 다른 서버가 먼저 기록한 경우(INSERT IGNORE 0행)는 출석한 것으로 두고 보상은 지급하지 않는다.
+     * 호출한 쪽(알림 서버 연결)의 트랜잭션과 분리해, 출석 처리 실패가 연결을 롤백시키지 않게 한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void check(final UUID memberId) {
+        LocalDate today = LocalDate.now();
+        if (!dailyAttendanceRepository.save(today, memberId)) {
+            return;
+        }
+
+        // 출석 기록이 롤백되면(DB 오류) 메모리에서도 지워 다음 연결 때 다시 시도한다.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    if (status != STATUS_COMMITTED) {
+                        dailyAttendanceRepository.delete(today, memberId);
+                    }
+                }
+            });
+        }
+
+        if (attendanceRepository.insertIgnore(memberId, today) == 0) {
+            return;
+        }
+        currencyService.increase(memberId, ATTENDANCE_REWARD, CurrencyReason.ATTENDANCE);
+    }
+
+    /**
+     * [자정 출석부 교체 메서드]
+     * 매일 자정에 빈 출석부로 교체합니다.
+     */
+    @Scheduled(cron = "0 0 0 * * ?")
+    public void rollover() {
+        dailyAttendanceRepository.reset(LocalDate.now(), Collections.emptySet());
+    }
+
+    /**
+     * [출석부 재구성 메서드]
+     * 서버 시작 시 오늘 출석한 회원 id만 스트리밍 조회로 읽어온다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        LocalDate today = LocalDate.now();
+        try (Stream<UUID> memberIds = attendanceRepository.findMemberIdsByAttendedAt(today)) {
+            Set<UUID> attendedMemberIds = memberIds.collect(Collectors.toSet());
+            dailyAttendanceRepository.reset(today, attendedMemberIds);
+            log.info("출석부 재구성 완료 - {}명", attendedMemberIds.size());
+        }
+    }
+}
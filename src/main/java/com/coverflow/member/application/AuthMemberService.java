@@ -0,0 +1,56 @@
+package com.coverflow.member.application;
+
+import com.coverflow.member.dto.AuthMemberDTO;
+import com.coverflow.member.infrastructure.AuthMemberCacheRepository;
+import com.coverflow.member.infrastructure.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+@Service
+public class AuthMemberService {
+
+    private final MemberRepository memberRepository;
+    private final AuthMemberCacheRepository authMemberCacheRepository;
+
+    /**
+     * [인증 회원 조회 메서드]
+     * 캐시에 없을 때만 DB에서 조회 후 스냅샷 저장
+     */
+    public Optional<AuthMemberDTO> findByMemberId(final UUID memberId) {
+        AuthMemberDTO cachedMember = authMemberCacheRepository.findByMemberId(memberId);
+        if (cachedMember != null) {
+            return Optional.of(cachedMember);
+        }
+
+        return memberRepository.findById(memberId)
+                .map(AuthMemberDTO::from)
+                .map(member -> {
+                    authMemberCacheRepository.save(member);
+                    return member;
+                });
+    }
+
+    /**
+     * [인증 회원 캐시 무효화 메서드]
+     * 권한, 회원 상태, 토큰 상태가 바뀔 때 호출
+     * 커밋 전에 다른 요청이 옛 값을 다시 캐싱할 수 있으므로 커밋 후에 한 번 더 지운다.
+     */
+    public void evict(final UUID memberId) {
+        authMemberCacheRepository.delete(memberId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    authMemberCacheRepository.delete(memberId);
+                }
+            });
+        }
+    }
+}
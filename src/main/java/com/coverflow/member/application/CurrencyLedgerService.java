@@ -0,0 +1,32 @@
+package com.coverflow.member.application;
+
+import com.coverflow.member.domain.CurrencyReason;
+import com.coverflow.member.dto.CurrencyLedgerDTO;
+import com.coverflow.member.infrastructure.CurrencyLedgerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+@Service
+public class CurrencyLedgerService {
+
+    private final CurrencyLedgerRepository currencyLedgerRepository;
+
+    /**
+     * [화폐 변동 내역 기록 메서드]
+     * 잔액 조건부 UPDATE와 같은 트랜잭션에서 삽입하므로, 잔액 변경과 내역은 함께 커밋되거나 함께 롤백된다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(
+            final UUID memberId,
+            final int amount,
+            final CurrencyReason reason
+    ) {
+        currencyLedgerRepository.save(new CurrencyLedgerDTO(memberId, amount, reason, LocalDateTime.now()));
+    }
+}
@@ -1,53 +1,39 @@
 package com.coverflow.member.application;
 
-import com.coverflow.member.domain.Member;
+import com.coverflow.member.domain.CurrencyReason;
 import com.coverflow.member.exception.MemberException;
 import com.coverflow.member.infrastructure.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.util.UUID;
 
+/**
+ * 화폐 서비스
+ * 잔액은 엔티티를 읽고 쓰지 않고 조건부 UPDATE 한 번으로 변경하며,
+ * 모든 변동은 같은 트랜잭션에서 CurrencyLedgerService로 내역을 남긴다.
+ */
 @RequiredArgsConstructor
 @Service
 public class CurrencyService {
 
-    private final MemberRepository memberRepository;
-
-    /**
-     * [출석 체크 메서드]
-     * 당일 첫 로그인 시 화폐 5 증가
-     */
-    public void dailyCheck(final UUID username) {
-        Member member = memberRepository.findById(username)
-                .orElseThrow(() -> new MemberException.MemberNotFoundException(username));
+    private static final int QUESTION_COST = 10;
 
-        // 오늘 첫 로그인 시 = 출석
-        if (null == member.getConnectedAt() || !LocalDate.now().equals(member.getConnectedAt().toLocalDate())) {
-            // 출석 체크 시 붕어빵 지급
-            member.updateFishShapedBun(member.getFishShapedBun() + 5);
-        }
-    }
+    private final CurrencyLedgerService currencyLedgerService;
+    private final MemberRepository memberRepository;
 
     /**
      * [질문 작성 시 화폐 감소 메서드]
-     * 질문 작성 시 화폐 10 감소
+     * 질문 작성 시 화폐 10 + 보상만큼 감소
+     * 보상 보관분은 작성 비용과 함께 한 번에 차감하므로 보상이 0이어도 0원 내역이 따로 생기지 않는다.
      */
     @Transactional
     public void writeQuestion(
             final String memberId,
             final int currency
     ) {
-        Member member = memberRepository.findById(UUID.fromString(memberId))
-                .orElseThrow(() -> new MemberException.MemberNotFoundException(memberId));
-
-        if (member.getFishShapedBun() >= 10 + currency) {
-            member.updateFishShapedBun(member.getFishShapedBun() - 10 - currency);
-            return;
-        }
-        throw new MemberException.NotEnoughCurrencyException();
+        decrease(UUID.fromString(memberId), QUESTION_COST + currency, CurrencyReason.WRITE_QUESTION);
     }
 
     /**
@@ -59,10 +45,7 @@ public class CurrencyService {
             final String username,
             final int currency
     ) {
-        Member member = memberRepository.findById(UUID.fromString(username))
-                .orElseThrow(() -> new MemberException.MemberNotFoundException(username));
-
-        member.updateFishShapedBun(member.getFishShapedBun() + currency);
+        increase(UUID.fromString(username), currency, CurrencyReason.ADMIN);
     }
 
     /**
@@ -74,9 +57,41 @@ public class CurrencyService {
             final String username,
             final int currency
     ) {
-        Member member = memberRepository.findById(UUID.fromString(username))
-                .orElseThrow(() -> new MemberException.MemberNotFoundException(username));
+        decrease(UUID.fromString(username), currency, CurrencyReason.ADMIN);
+    }
 
-        member.updateFishShapedBun(member.getFishShapedBun() - currency);
+    /**
+     * [화폐 지급 메서드]
+     * 잔액 += amount를 UPDATE 한 번으로 처리
+     */
+    @Transactional
+    public void increase(
+            final UUID memberId,
+            final int amount,
+            final CurrencyReason reason
+    ) {
+        if (memberRepository.increaseFishShapedBun(memberId, amount) == 0) {
+            throw new MemberException.MemberNotFoundException(memberId);
+        }
+        currencyLedgerService.record(memberId, amount, reason);
+    }
+
+    /**
+     * [화폐 차감 메서드]
+     * 잔액 >= amount 조건을 건 UPDATE 한 번으로 처리하므로 동시 차감에도 음수가 되지 않는다.
+     */
+    @Transactional
+    public void decrease(
+            final UUID memberId,
+            final int amount,
+            final CurrencyReason reason
+    ) {
+        if (memberRepository.decreaseFishShapedBun(memberId, amount) == 0) {
+            if (!memberRepository.existsById(memberId)) {
+                throw new MemberException.MemberNotFoundException(memberId);
+            }
+            throw new MemberException.NotEnoughCurrencyException();
+        }
+        currencyLedgerService.record(memberId, -amount, reason);
     }
 }
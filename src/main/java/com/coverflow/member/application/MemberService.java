@@ -1,5 +1,6 @@
 package com.coverflow.member.application;
 
+import com.coverflow.global.jwt.service.TokenRevocationService;
 import com.coverflow.global.util.NicknameUtil;
 import com.coverflow.inquiry.infrastructure.InquiryRepository;
 import com.coverflow.member.domain.*;
@@ -12,8 +13,8 @@ import com.coverflow.member.dto.response.UpdateNicknameResponse;
 import com.coverflow.member.infrastructure.MemberRepository;
 import com.coverflow.notification.infrastructure.EmitterRepository;
 import com.coverflow.notification.infrastructure.NotificationRepository;
+import com.coverflow.question.application.QuestionService;
 import com.coverflow.question.infrastructure.AnswerRepository;
-import com.coverflow.question.infrastructure.QuestionRepository;
 import com.coverflow.report.infrastructure.ReportRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -38,8 +39,12 @@ import static com.coverflow.member.exception.MemberException.*;
 @Service
 public class MemberService {
 
+    private final AuthMemberService authMemberService;
+    private final CurrencyService currencyService;
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshTokenService refreshTokenService;
+    private final QuestionService questionService;
     private final MemberRepository memberRepository;
-    private final QuestionRepository questionRepository;
     private final AnswerRepository answerRepository;
     private final InquiryRepository inquiryRepository;
     private final ReportRepository reportRepository;
@@ -142,6 +147,7 @@ public class MemberService {
 
         member.updateMember(request);
         member.updateAuthorization(Role.MEMBER);
+        authMemberService.evict(member.getId());
     }
 
     /**
@@ -165,13 +171,10 @@ public class MemberService {
     public UpdateNicknameResponse updateNickname(final String username) {
         Member member = memberRepository.findByIdAndMemberStatus(UUID.fromString(username), MemberStatus.REGISTRATION)
                 .orElseThrow(() -> new MemberNotFoundException(username));
+        currencyService.decrease(member.getId(), 20, CurrencyReason.UPDATE_NICKNAME);
         String nickname = nicknameUtil.generateRandomNickname();
-
-        if (member.getFishShapedBun() < 20) {
-            throw new NotEnoughCurrencyException();
-        }
+        nicknameUtil.release(member.getNickname());
         member.updateNickname(nickname);
-        member.updateFishShapedBun(member.getFishShapedBun() - 20);
         return UpdateNicknameResponse.from(nickname);
     }
 
@@ -184,6 +187,9 @@ public class MemberService {
                 .orElseThrow(() -> new MemberNotFoundException(username));
 
         member.updateTokenStatus(RefreshTokenStatus.LOGOUT);
+        tokenRevocationService.revoke(member);
+        refreshTokenService.delete(member.getId());
+        authMemberService.evict(member.getId());
         emitterRepository.deleteAllStartWithId(username);
         emitterRepository.deleteAllEventCacheStartWithId(username);
     }
@@ -201,6 +207,9 @@ public class MemberService {
         member.updateAuthorization(Role.GUEST);
         member.updateMemberStatus(MemberStatus.LEAVE);
         member.updateTokenStatus(RefreshTokenStatus.LOGOUT);
+        tokenRevocationService.revoke(member);
+        refreshTokenService.delete(member.getId());
+        authMemberService.evict(member.getId());
 
         emitterRepository.deleteAllStartWithId(String.valueOf(member.getId()));
         emitterRepository.deleteAllEventCacheStartWithId(String.valueOf(member.getId()));
@@ -222,6 +231,9 @@ public class MemberService {
             // 회원이 작성한 질문, 답변, 문의, 신고, 알림 데이터 삭제
             deleteData(member.getId());
 
+            authMemberService.evict(member.getId());
+            nicknameUtil.release(member.getNickname());
+
             // 소셜 연결 끊기
             unlink(member.getSocialType(), member.getSocialId(), member.getSocialAccessToken());
         }
@@ -235,7 +247,7 @@ public class MemberService {
      */
     private void deleteData(final UUID memberId) {
         answerRepository.deleteByMemberId(memberId);
-        questionRepository.deleteByMemberId(memberId);
+        questionService.deleteByMemberId(memberId);
         inquiryRepository.deleteByMemberId(memberId);
         reportRepository.deleteByMemberId(memberId);
 
@@ -0,0 +1,83 @@
+package com.coverflow.member.application;
+
+import com.coverflow.global.util.HashUtil;
+import com.coverflow.member.domain.RefreshToken;
+import com.coverflow.member.infrastructure.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+@Service
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${jwt.refresh.expiration}")
+    private long refreshTokenExpirationPeriod;
+
+    /**
+     * [리프레쉬 토큰 저장 메서드]
+     * 토큰 원문 대신 SHA-256 해시만 저장, 회원당 하나의 토큰만 유지
+     */
+    @Transactional
+    public void save(
+            final UUID memberId,
+            final String refreshToken
+    ) {
+        refreshTokenRepository.deleteByMemberId(memberId);
+        refreshTokenRepository.save(new RefreshToken(HashUtil.sha256Hex(refreshToken), memberId, generateExpiredAt()));
+    }
+
+    /**
+     * [리프레쉬 토큰 교체 메서드]
+     * 만료되지 않은 해시를 새 해시로 바꾸는 조건부 UPDATE 한 번으로 교체 (영향받은 행 수가 곧 성공 여부)
+     * 교체에 성공하면 새 해시로 회원 id 반환
+     */
+    @Transactional
+    public Optional<UUID> rotate(
+            final String refreshToken,
+            final String newRefreshToken
+    ) {
+        String newTokenHash = HashUtil.sha256Hex(newRefreshToken);
+        int rotated = refreshTokenRepository.rotate(
+                HashUtil.sha256Hex(refreshToken),
+                newTokenHash,
+                LocalDateTime.now(),
+                generateExpiredAt()
+        );
+        if (rotated != 1) {
+            return Optional.empty();
+        }
+        return refreshTokenRepository.findMemberIdByTokenHash(newTokenHash);
+    }
+
+    /**
+     * [리프레쉬 토큰 삭제 메서드]
+     * 로그아웃, 탈퇴 시 호출
+     */
+    @Transactional
+    public void delete(final UUID memberId) {
+        refreshTokenRepository.deleteByMemberId(memberId);
+    }
+
+    /**
+     * 만료된 리프레쉬 토큰 매일 삭제 메서드
+     */
+    @Scheduled(cron = "0 30 0 * * ?")
+    @Transactional
+    public void deleteExpired() {
+        refreshTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private LocalDateTime generateExpiredAt() {
+        return LocalDateTime.now().plus(Duration.ofMillis(refreshTokenExpirationPeriod));
+    }
+}
@@ -0,0 +1,39 @@
+package com.coverflow.member.domain;
+
+import com.coverflow.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "tbl_attendance",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "attendance_member_date_uk", columnNames = {"member_id", "attended_at"})
+        },
+        indexes = {
+                @Index(name = "attendance_date_idx", columnList = "attended_at")
+        })
+public class Attendance extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // 출석 고유 번호
+    @Column(nullable = false)
+    private UUID memberId; // 회원 고유 번호
+    @Column(nullable = false)
+    private LocalDate attendedAt; // 출석 날짜
+
+    public Attendance(
+            final UUID memberId,
+            final LocalDate attendedAt
+    ) {
+        this.memberId = memberId;
+        this.attendedAt = attendedAt;
+    }
+}
@@ -0,0 +1,36 @@
+package com.coverflow.member.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 화폐 변동 내역 (추가만 가능한 감사용 테이블)
+ * 삽입은 CurrencyLedgerRepository에서 잔액 변경과 같은 트랜잭션으로 처리한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "tbl_currency_ledger",
+        indexes = {
+                @Index(name = "currency_ledger_member_idx", columnList = "member_id, created_at")
+        })
+public class CurrencyLedger {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // 내역 고유 번호
+    @Column(nullable = false, updatable = false)
+    private UUID memberId; // 회원 고유 번호
+    @Column(nullable = false, updatable = false)
+    private int amount; // 변동량 (지급 +, 차감 -)
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private CurrencyReason reason; // 변동 사유
+    @Column(name = "created_at", nullable = false, updatable = false, columnDefinition = "TIMESTAMP")
+    private LocalDateTime createdAt; // 변동 시간
+}
@@ -0,0 +1,12 @@
+package com.coverflow.member.domain;
+
+public enum CurrencyReason {
+
+    ATTENDANCE, // 출석 체크
+    WRITE_QUESTION, // 질문 작성
+    UPDATE_NICKNAME, // 닉네임 변경
+    ANSWER_SELECTION, // 답변 채택 보상
+    REWARD_REFUND, // 채택 전 삭제된 질문의 보상 환불
+    REWARD_HOLD, // 환불된 질문이 다시 등록되어 보상 재보관
+    ADMIN // 관리자 지급/회수
+}
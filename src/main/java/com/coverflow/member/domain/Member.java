@@ -11,6 +11,7 @@ import com.coverflow.question.domain.Question;
 import com.coverflow.report.domain.Report;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -21,10 +22,17 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@DynamicUpdate // 화폐는 조건부 UPDATE로만 바꾸므로, 다른 필드 변경 시 옛 잔액을 덮어쓰지 않도록 변경된 컬럼만 갱신
 @Entity
-@Table(name = "tbl_member")
+@Table(name = "tbl_member",
+        indexes = {
+                @Index(name = Member.NICKNAME_INDEX, columnList = "nickname", unique = true),
+                @Index(name = "member_social_idx", columnList = "social_type, social_id", unique = true)
+        })
 public class Member extends BaseTimeEntity {
 
+    public static final String NICKNAME_INDEX = "member_nickname_idx";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id; // 회원 고유 번호
@@ -49,7 +57,7 @@ public class Member extends BaseTimeEntity {
     @Column
     private String socialAccessToken; // 소셜 액세스 토큰
     @Column
-    private String refreshToken; // 리프레쉬 토큰
+    private int tokenVersion; // 액세스 토큰 버전 (로그아웃/탈퇴 시 증가)
 
     @Enumerated(EnumType.STRING)
     private SocialType socialType; // KAKAO, NAVER, GOOGLE
@@ -108,10 +116,6 @@ public class Member extends BaseTimeEntity {
         this.gender = request.gender();
     }
 
-    public void updateRefreshToken(final String updateRefreshToken) {
-        this.refreshToken = updateRefreshToken;
-    }
-
     public void updateNickname(final String updateNickname) {
         this.nickname = updateNickname;
     }
@@ -140,6 +144,10 @@ public class Member extends BaseTimeEntity {
         this.refreshTokenStatus = refreshTokenStatus;
     }
 
+    public void updateTokenVersion(final int tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
+
 //    public void passwordEncode(final PasswordEncoder passwordEncoder) {
 //        this.password = passwordEncoder.encode(this.password);
 //    }
@@ -0,0 +1,42 @@
+package com.coverflow.member.domain;
+
+import com.coverflow.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "tbl_refresh_token",
+        indexes = {
+                @Index(name = "refresh_token_hash_idx", columnList = "tokenHash", unique = true),
+                @Index(name = "refresh_token_member_idx", columnList = "memberId"),
+                @Index(name = "refresh_token_expired_at_idx", columnList = "expiredAt")
+        })
+public class RefreshToken extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // 리프레쉬 토큰 고유 번호
+    @Column(length = 64, nullable = false)
+    private String tokenHash; // 토큰 SHA-256 해시 (16진수 64자)
+    @Column(nullable = false)
+    private UUID memberId; // 회원 고유 번호
+    @Column(nullable = false)
+    private LocalDateTime expiredAt; // 만료 시간
+
+    public RefreshToken(
+            final String tokenHash,
+            final UUID memberId,
+            final LocalDateTime expiredAt
+    ) {
+        this.tokenHash = tokenHash;
+        this.memberId = memberId;
+        this.expiredAt = expiredAt;
+    }
+}
@@ -0,0 +1,30 @@
+package com.coverflow.member.dto;
+
+import com.coverflow.member.domain.Member;
+import com.coverflow.member.domain.MemberStatus;
+import com.coverflow.member.domain.RefreshTokenStatus;
+import com.coverflow.member.domain.Role;
+
+import java.util.UUID;
+
+/**
+ * 인증에 필요한 회원 정보 스냅샷 (불변)
+ */
+public record AuthMemberDTO(
+        UUID memberId,
+        Role role,
+        MemberStatus memberStatus,
+        RefreshTokenStatus refreshTokenStatus,
+        int tokenVersion
+) {
+
+    public static AuthMemberDTO from(final Member member) {
+        return new AuthMemberDTO(
+                member.getId(),
+                member.getRole(),
+                member.getMemberStatus(),
+                member.getRefreshTokenStatus(),
+                member.getTokenVersion()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.coverflow.member.dto;
+
+import com.coverflow.member.domain.CurrencyReason;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record CurrencyLedgerDTO(
+        UUID memberId,
+        int amount,
+        CurrencyReason reason,
+        LocalDateTime createdAt
+) {
+}
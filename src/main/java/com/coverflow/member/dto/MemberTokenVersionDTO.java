@@ -0,0 +1,15 @@
+package com.coverflow.member.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberTokenVersionDTO {
+    private UUID memberId;
+    private Integer tokenVersion;
+}
@@ -0,0 +1,40 @@
+package com.coverflow.member.infrastructure;
+
+import com.coverflow.member.domain.Attendance;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static com.coverflow.global.constant.Constant.STREAMING_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE))
+    @Query("""
+            SELECT a.memberId
+            FROM Attendance a
+            WHERE a.attendedAt = :attendedAt
+            """)
+    Stream<UUID> findMemberIdsByAttendedAt(@Param("attendedAt") final LocalDate attendedAt);
+
+    /**
+     * 출석 행을 추가한다. 다른 서버가 이미 기록해 (member_id, attended_at) 유니크 키가 겹치면 무시하고 0을 반환한다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO tbl_attendance (member_id, attended_at, created_at, updated_at)
+            VALUES (:memberId, :attendedAt, NOW(), NOW())
+            """, nativeQuery = true)
+    int insertIgnore(
+            @Param("memberId") final UUID memberId,
+            @Param("attendedAt") final LocalDate attendedAt
+    );
+}
@@ -0,0 +1,63 @@
+package com.coverflow.member.infrastructure;
+
+import com.coverflow.member.dto.AuthMemberDTO;
+import org.springframework.stereotype.Repository;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인증 회원 스냅샷 캐시
+ * 크기(MAX_SIZE)와 유효 시간(TTL_MILLIS)이 제한된 메모리 저장소
+ */
+@Repository
+public class AuthMemberCacheRepository {
+
+    private static final int MAX_SIZE = 10_000;
+    private static final long TTL_MILLIS = 5 * 60 * 1000L;
+
+    private final Map<UUID, CachedMember> cache = new ConcurrentHashMap<>();
+
+    public AuthMemberDTO findByMemberId(final UUID memberId) {
+        CachedMember cachedMember = cache.get(memberId);
+        if (cachedMember == null) {
+            return null;
+        }
+        if (cachedMember.expiredAt() < System.currentTimeMillis()) {
+            cache.remove(memberId, cachedMember);
+            return null;
+        }
+        return cachedMember.member();
+    }
+
+    public void save(final AuthMemberDTO member) {
+        if (cache.size() >= MAX_SIZE) {
+            evict();
+        }
+        cache.put(member.memberId(), new CachedMember(member, System.currentTimeMillis() + TTL_MILLIS));
+    }
+
+    public void delete(final UUID memberId) {
+        cache.remove(memberId);
+    }
+
+    // 만료 항목을 먼저 지우고, 그래도 가득 차 있으면 90%까지 임의로 비운다.
+    private void evict() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(cachedMember -> cachedMember.expiredAt() < now);
+
+        Iterator<UUID> iterator = cache.keySet().iterator();
+        while (cache.size() >= MAX_SIZE * 9 / 10 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record CachedMember(
+            AuthMemberDTO member,
+            long expiredAt
+    ) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.coverflow.member.infrastructure;
+
+import com.coverflow.member.dto.CurrencyLedgerDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+/**
+ * 화폐 변동 내역 저장소
+ * 추가만 하는 내역이므로 엔티티를 영속성 컨텍스트에 올리지 않고 JdbcTemplate으로 바로 삽입한다.
+ * (진행 중인 JPA 트랜잭션의 커넥션을 그대로 사용)
+ */
+@RequiredArgsConstructor
+@Repository
+public class CurrencyLedgerRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO tbl_currency_ledger (member_id, amount, reason, created_at)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void save(final CurrencyLedgerDTO ledger) {
+        jdbcTemplate.update(INSERT_SQL, ps -> {
+            ps.setBytes(1, toBytes(ledger.memberId()));
+            ps.setInt(2, ledger.amount());
+            ps.setString(3, ledger.reason().name());
+            ps.setTimestamp(4, Timestamp.valueOf(ledger.createdAt()));
+        });
+    }
+
+    // Hibernate가 MySQL에 UUID를 저장하는 형식(binary(16))과 맞춘다.
+    private byte[] toBytes(final UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,69 @@
+package com.coverflow.member.infrastructure;
+
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 당일 출석 회원 저장소
+ * 오늘 날짜와 출석한 회원 id 집합만 메모리에 유지하고, 날짜가 바뀌면 집합을 통째로 교체한다.
+ */
+@Repository
+public class DailyAttendanceRepository {
+
+    private volatile Day today = new Day(LocalDate.now(), ConcurrentHashMap.newKeySet());
+
+    /**
+     * 처음 출석한 경우에만 true 반환
+     */
+    public boolean save(
+            final LocalDate date,
+            final UUID memberId
+    ) {
+        return findDay(date).memberIds().add(memberId);
+    }
+
+    public void delete(
+            final LocalDate date,
+            final UUID memberId
+    ) {
+        Day day = today;
+        if (day.date().equals(date)) {
+            day.memberIds().remove(memberId);
+        }
+    }
+
+    /**
+     * 해당 날짜의 집합으로 교체 (자정 교체, 서버 시작 시 재구성)
+     */
+    public synchronized void reset(
+            final LocalDate date,
+            final Set<UUID> memberIds
+    ) {
+        Set<UUID> newMemberIds = ConcurrentHashMap.newKeySet(memberIds.size());
+        newMemberIds.addAll(memberIds);
+        today = new Day(date, newMemberIds);
+    }
+
+    private Day findDay(final LocalDate date) {
+        Day day = today;
+        if (day.date().equals(date)) {
+            return day;
+        }
+        synchronized (this) {
+            if (today.date().isBefore(date)) {
+                today = new Day(date, ConcurrentHashMap.newKeySet());
+            }
+            return today;
+        }
+    }
+
+    private record Day(
+            LocalDate date,
+            Set<UUID> memberIds
+    ) {
+    }
+}
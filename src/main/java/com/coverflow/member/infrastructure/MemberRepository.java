@@ -3,17 +3,24 @@ package com.coverflow.member.infrastructure;
 import com.coverflow.member.domain.Member;
 import com.coverflow.member.domain.MemberStatus;
 import com.coverflow.member.domain.SocialType;
+import com.coverflow.member.dto.MemberTokenVersionDTO;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static com.coverflow.global.constant.Constant.STREAMING_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface MemberRepository extends JpaRepository<Member, UUID> {
 
@@ -21,7 +28,7 @@ public interface MemberRepository extends JpaRepository<Member, UUID> {
 
     Optional<Member> findByNickname(final String nickname);
 
-    Optional<Member> findByRefreshToken(final String refreshToken);
+    boolean existsByNickname(final String nickname);
 
     @Query("""
             SELECT m
@@ -70,6 +77,56 @@ public interface MemberRepository extends JpaRepository<Member, UUID> {
             """)
     Optional<List<Member>> findByStatus(final LocalDateTime date);
 
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE))
+    @Query("""
+            SELECT m.nickname
+            FROM Member m
+            WHERE m.nickname IS NOT NULL
+            """)
+    Stream<String> findAllNicknames();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE))
+    @Query("""
+            SELECT new com.coverflow.member.dto.MemberTokenVersionDTO(m.id, m.tokenVersion)
+            FROM Member m
+            WHERE m.tokenVersion > 0
+            """)
+    Stream<MemberTokenVersionDTO> findRevokedTokenVersions();
+
+    @Modifying
+    @Query("""
+            UPDATE Member m
+            SET m.socialAccessToken = :socialAccessToken
+            WHERE m.id = :id
+            """)
+    int updateSocialAccessToken(
+            @Param("id") final UUID id,
+            @Param("socialAccessToken") final String socialAccessToken
+    );
+
+    @Modifying
+    @Query("""
+            UPDATE Member m
+            SET m.fishShapedBun = m.fishShapedBun + :amount
+            WHERE m.id = :id
+            """)
+    int increaseFishShapedBun(
+            @Param("id") final UUID id,
+            @Param("amount") final int amount
+    );
+
+    @Modifying
+    @Query("""
+            UPDATE Member m
+            SET m.fishShapedBun = m.fishShapedBun - :amount
+            WHERE m.id = :id
+            AND m.fishShapedBun >= :amount
+            """)
+    int decreaseFishShapedBun(
+            @Param("id") final UUID id,
+            @Param("amount") final int amount
+    );
+
     @Modifying
     @Query("""
             DELETE FROM Member m
@@ -0,0 +1,53 @@
+package com.coverflow.member.infrastructure;
+
+import com.coverflow.member.domain.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * 만료되지 않은 기존 해시일 때만 새 해시로 교체 (조회 없이 한 번의 UPDATE, 동시 재발급 시 한 요청만 성공)
+     */
+    @Modifying
+    @Query("""
+            UPDATE RefreshToken r
+            SET r.tokenHash = :newTokenHash,
+                r.expiredAt = :expiredAt
+            WHERE r.tokenHash = :tokenHash
+            AND r.expiredAt > :now
+            """)
+    int rotate(
+            @Param("tokenHash") final String tokenHash,
+            @Param("newTokenHash") final String newTokenHash,
+            @Param("now") final LocalDateTime now,
+            @Param("expiredAt") final LocalDateTime expiredAt
+    );
+
+    @Query("""
+            SELECT r.memberId
+            FROM RefreshToken r
+            WHERE r.tokenHash = :tokenHash
+            """)
+    Optional<UUID> findMemberIdByTokenHash(@Param("tokenHash") final String tokenHash);
+
+    @Modifying
+    @Query("""
+            DELETE FROM RefreshToken r
+            WHERE r.memberId = :memberId
+            """)
+    void deleteByMemberId(@Param("memberId") final UUID memberId);
+
+    @Modifying
+    @Query("""
+            DELETE FROM RefreshToken r
+            WHERE r.expiredAt <= :now
+            """)
+    void deleteExpired(@Param("now") final LocalDateTime now);
+}
@@ -1,6 +1,6 @@
 package com.coverflow.notification.application;
 
-import com.coverflow.member.application.CurrencyService;
+import com.coverflow.member.application.AttendanceService;
 import com.coverflow.notification.domain.Notification;
 import com.coverflow.notification.dto.request.UpdateNotificationRequest;
 import com.coverflow.notification.exception.NotificationException;
@@ -25,7 +25,7 @@ import java.util.UUID;
 public class NotificationService {
 
     private static final long DEFAULT_TIMEOUT = 60L * 1000 * 60;
-    private final CurrencyService currencyService;
+    private final AttendanceService attendanceService;
     private final EmitterRepository emitterRepository;
     private final NotificationRepository notificationRepository;
 
@@ -61,8 +61,12 @@ public class NotificationService {
         // 첫 연결 시 503 Service Unavailable 방지용 더미 Event 전송
         sendToClient(eventId, emitter, "알림 서버 연결 성공. [memberId = " + memberId + "]");
 
-        // 출석 체크
-        currencyService.dailyCheck(UUID.fromString(memberId));
+        // 출석 체크 (실패해도 알림 서버 연결은 유지)
+        try {
+            attendanceService.check(UUID.fromString(memberId));
+        } catch (RuntimeException e) {
+            log.error("출석 체크 실패 - {}", memberId, e);
+        }
 
         // 클라이언트가 미수신한 Event 목록이 존재할 경우 모두 전송
         if (!lastEventId.isEmpty()) {
@@ -1,8 +1,7 @@
 package com.coverflow.question.application;
 
-import com.coverflow.member.domain.Member;
-import com.coverflow.member.exception.MemberException;
-import com.coverflow.member.infrastructure.MemberRepository;
+import com.coverflow.member.application.CurrencyService;
+import com.coverflow.member.domain.CurrencyReason;
 import com.coverflow.notification.application.NotificationService;
 import com.coverflow.notification.domain.Notification;
 import com.coverflow.question.domain.Answer;
@@ -38,10 +37,11 @@ import static com.coverflow.global.util.PageUtil.generatePageDesc;
 @Service
 public class AnswerService {
 
-    private final MemberRepository memberRepository;
+    private final CurrencyService currencyService;
     private final QuestionRepository questionRepository;
     private final AnswerRepository answerRepository;
     private final NotificationService notificationService;
+    private final TrendingQuestionService trendingQuestionService;
 
     /**
      * [특정 질문에 대한 답변 조회 메서드]
@@ -128,30 +128,46 @@ public class AnswerService {
             final SaveAnswerRequest request,
             final String memberId
     ) {
-        Question question = questionRepository.findById(request.questionId())
+        // 등록 상태의 질문에만 답변 가능 (삭제/비공개 질문이 트렌딩에 다시 들어가지 않도록)
+        Question question = questionRepository.findRegisteredQuestion(request.questionId())
                 .orElseThrow(() -> new QuestionException.QuestionNotFoundException(request.questionId()));
 
         answerRepository.save(new Answer(request, memberId));
         notificationService.send(new Notification(question));
         question.updateAnswerCount(question.getAnswerCount() + 1);
+        trendingQuestionService.recordAnswer(question);
     }
 
     /**
      * [답변 채택 메서드]
+     * 질문 작성 시 보관된 보상을 한 번만 지급한다.
+     * 질문 쪽 조건부 UPDATE(작성자 본인 + 보관 중)가 성공한 요청만 답변자 화폐를 증가시키므로
+     * 동시에 채택 요청이 와도 보상은 하나의 답변에만 지급된다. (등록 상태의 답변만 채택 가능)
+     * 보상이 0이면 화폐와 내역은 건드리지 않는다.
      */
     @Transactional
     public void choose(
             final long answerId,
-            final UpdateSelectionRequest request
+            final UpdateSelectionRequest request,
+            final String memberId
     ) {
-        Answer answer = answerRepository.findById(answerId)
+        if (!request.selection()) {
+            throw new AnswerException.SelectionCancelException(answerId);
+        }
+
+        Answer answer = answerRepository.findByIdAndAnswerStatus(answerId, AnswerStatus.REGISTRATION)
                 .orElseThrow(() -> new AnswerException.AnswerNotFoundException(answerId));
-        Member member = memberRepository.findById(answer.getMember().getId())
-                .orElseThrow(() -> new MemberException.MemberNotFoundException(answer.getMember().getId()));
+        Question question = answer.getQuestion();
+
+        if (questionRepository.releaseReward(question.getId(), UUID.fromString(memberId)) == 0) {
+            throw new AnswerException.AnswerSelectionException(answerId);
+        }
 
-        answer.updateSelection(request.selection());
-        member.updateFishShapedBun(member.getFishShapedBun() + answer.getQuestion().getReward());
-        notificationService.send(new Notification(answer, member));
+        answer.updateSelection(true);
+        if (question.getReward() > 0) {
+            currencyService.increase(answer.getMember().getId(), question.getReward(), CurrencyReason.ANSWER_SELECTION);
+        }
+        notificationService.send(new Notification(answer, answer.getMember()));
     }
 
     /**
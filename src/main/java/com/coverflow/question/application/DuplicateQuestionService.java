@@ -0,0 +1,111 @@
+package com.coverflow.question.application;
+
+import com.coverflow.global.util.MinHashUtil;
+import com.coverflow.global.util.TransactionUtil;
+import com.coverflow.question.domain.Question;
+import com.coverflow.question.domain.QuestionStatus;
+import com.coverflow.question.dto.QuestionTextDTO;
+import com.coverflow.question.infrastructure.QuestionRepository;
+import com.coverflow.question.infrastructure.QuestionSignatureRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class DuplicateQuestionService {
+
+    private static final double DUPLICATE_THRESHOLD = 0.8; // 추정 자카드 유사도 기준
+    private final QuestionRepository questionRepository;
+    private final QuestionSignatureRepository questionSignatureRepository;
+
+    /**
+     * [중복 의심 질문 조회 메서드]
+     * 같은 기업의 질문 중 제목 + 내용이 거의 같은 질문 id를 유사도 높은 순으로 반환
+     * 후보 1건당 서명 비교 1회(상수 시간)
+     */
+    public List<Long> findDuplicates(
+            final long companyId,
+            final String title,
+            final String content
+    ) {
+        int[] signature = MinHashUtil.generateSignature(title + content);
+
+        return questionSignatureRepository.findCandidates(companyId, signature).stream()
+                .map(questionId -> {
+                    int[] candidate = questionSignatureRepository.findSignature(questionId, companyId);
+                    double similarity = candidate == null ? 0 : MinHashUtil.similarity(signature, candidate);
+                    return Map.entry(questionId, similarity);
+                })
+                .filter(entry -> entry.getValue() >= DUPLICATE_THRESHOLD)
+                .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * [질문 서명 저장 메서드]
+     * 등록 상태가 아닌 질문은 중복 비교 대상에서 제외
+     * 커밋 후 반영하므로 롤백된 질문은 이후 질문 등록을 막지 않는다.
+     */
+    public void save(final Question question) {
+        long questionId = question.getId();
+        if (!QuestionStatus.REGISTRATION.equals(question.getQuestionStatus())) {
+            delete(questionId);
+            return;
+        }
+
+        long companyId = question.getCompany().getId();
+        int[] signature = MinHashUtil.generateSignature(question.getTitle() + question.getContent());
+        TransactionUtil.afterCommit(() -> save(questionId, companyId, signature));
+    }
+
+    /**
+     * [질문 서명 삭제 메서드]
+     * 커밋 후 반영
+     */
+    public void delete(final long questionId) {
+        TransactionUtil.afterCommit(() -> remove(questionId));
+    }
+
+    /**
+     * [질문 서명 재구성 메서드]
+     * 서버 시작 시 등록된 질문을 한 번의 스트리밍 조회로 읽어 서명 저장소를 다시 만든다.
+     * 재구성 중에 커밋된 변경은 재구성이 끝난 뒤 반영되도록 같은 잠금으로 직렬화한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        questionSignatureRepository.deleteAll();
+
+        try (Stream<QuestionTextDTO> questions = questionRepository.findRegisteredQuestionTexts()) {
+            questions.forEach(question -> questionSignatureRepository.save(
+                    question.getQuestionId(),
+                    question.getCompanyId(),
+                    MinHashUtil.generateSignature(question.getTitle() + question.getContent())
+            ));
+        }
+        log.info("질문 중복 검사 서명 재구성 완료");
+    }
+
+    private synchronized void save(
+            final long questionId,
+            final long companyId,
+            final int[] signature
+    ) {
+        questionSignatureRepository.save(questionId, companyId, signature);
+    }
+
+    private synchronized void remove(final long questionId) {
+        questionSignatureRepository.delete(questionId);
+    }
+}
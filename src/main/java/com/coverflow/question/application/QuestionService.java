@@ -1,9 +1,12 @@
 package com.coverflow.question.application;
 
+import com.coverflow.company.application.CompanyRankingService;
+import com.coverflow.company.application.CompanyStatisticsService;
 import com.coverflow.company.domain.Company;
 import com.coverflow.company.exception.CompanyException;
 import com.coverflow.company.infrastructure.CompanyRepository;
 import com.coverflow.member.application.CurrencyService;
+import com.coverflow.member.domain.CurrencyReason;
 import com.coverflow.question.domain.Question;
 import com.coverflow.question.domain.QuestionStatus;
 import com.coverflow.question.dto.*;
@@ -20,6 +23,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -31,7 +35,11 @@ import static com.coverflow.global.util.PageUtil.generatePageDesc;
 public class QuestionService {
 
     private final CurrencyService currencyService;
+    private final CompanyStatisticsService companyStatisticsService;
+    private final CompanyRankingService companyRankingService;
     private final AnswerService answerService;
+    private final DuplicateQuestionService duplicateQuestionService;
+    private final TrendingQuestionService trendingQuestionService;
     private final CompanyRepository companyRepository;
     private final QuestionRepository questionRepository;
 
@@ -77,6 +85,7 @@ public class QuestionService {
     /**
      * [특정 질문과 답변 조회 메서드]
      * 특정 질문 id로 질문 및 답변 조회
+     * 인기 질문 조회 수는 질문을 처음 불러올 때(답변 첫 페이지)만 기록하고, 답변 페이지 이동은 세지 않는다.
      */
     @Transactional
     public FindQuestionResponse findByQuestionId(
@@ -88,6 +97,9 @@ public class QuestionService {
                 .orElseThrow(() -> new QuestionException.QuestionNotFoundException(questionId));
 
         question.updateViewCount(question.getViewCount() + 1);
+        if (pageNo == 0) {
+            trendingQuestionService.recordView(question);
+        }
 
         AnswerListDTO answerList = answerService.findByQuestionId(pageNo, criterion, questionId);
 
@@ -145,9 +157,20 @@ public class QuestionService {
         Company company = companyRepository.findById(request.companyId())
                 .orElseThrow(() -> new CompanyException.CompanyNotFoundException(request.companyId()));
 
+        // 같은 기업에 거의 같은 질문이 있으면 등록 불가
+        duplicateQuestionService.findDuplicates(request.companyId(), request.title(), request.content())
+                .stream()
+                .findFirst()
+                .ifPresent(duplicateId -> {
+                    throw new QuestionException.QuestionExistException(duplicateId);
+                });
+
         currencyService.writeQuestion(memberId, request.reward());
-        questionRepository.save(new Question(request, memberId));
+        Question question = questionRepository.save(new Question(request, memberId));
         company.updateQuestionCount(company.getQuestionCount() + 1);
+        companyRankingService.save(company);
+        companyStatisticsService.increase(question);
+        duplicateQuestionService.save(question);
     }
 
     /**
@@ -161,7 +184,20 @@ public class QuestionService {
         Question question = questionRepository.findById(questionId)
                 .orElseThrow(() -> new QuestionException.QuestionNotFoundException(questionId));
 
+        boolean registered = QuestionStatus.REGISTRATION.equals(question.getQuestionStatus());
         question.updateQuestion(request);
+        duplicateQuestionService.save(question);
+
+        if (!QuestionStatus.REGISTRATION.equals(question.getQuestionStatus())) {
+            trendingQuestionService.delete(question);
+            if (registered) {
+                updateQuestionCount(question, -1);
+                refundReward(question);
+            }
+        } else if (!registered) {
+            updateQuestionCount(question, 1);
+            holdReward(question);
+        }
     }
 
     /**
@@ -172,6 +208,70 @@ public class QuestionService {
         Question question = questionRepository.findById(questionId)
                 .orElseThrow(() -> new QuestionException.QuestionNotFoundException(questionId));
 
+        refundReward(question);
         questionRepository.delete(question);
+        if (QuestionStatus.REGISTRATION.equals(question.getQuestionStatus())) {
+            updateQuestionCount(question, -1);
+        }
+        duplicateQuestionService.delete(questionId);
+        trendingQuestionService.delete(question);
+    }
+
+    /**
+     * [회원 질문 삭제 메서드]
+     * 탈퇴 회원의 질문을 삭제하면서 기업 질문 수, 랭킹, 태그 통계, 중복 검사 서명, 인기 질문도 함께 갱신
+     */
+    @Transactional
+    public void deleteByMemberId(final UUID memberId) {
+        List<Question> questions = questionRepository.findAllByMemberId(memberId);
+
+        questionRepository.deleteAll(questions);
+        for (Question question : questions) {
+            if (QuestionStatus.REGISTRATION.equals(question.getQuestionStatus())) {
+                updateQuestionCount(question, -1);
+            }
+            duplicateQuestionService.delete(question.getId());
+            trendingQuestionService.delete(question);
+        }
+    }
+
+    /**
+     * [기업 질문 수 변경 메서드]
+     * 등록 질문 수가 바뀔 때 기업 질문 수, 랭킹, 태그 통계를 함께 갱신
+     */
+    private void updateQuestionCount(
+            final Question question,
+            final int delta
+    ) {
+        Company company = question.getCompany();
+        company.updateQuestionCount(Math.max(0, company.getQuestionCount() + delta));
+        companyRankingService.save(company);
+
+        if (delta > 0) {
+            companyStatisticsService.increase(question);
+        } else {
+            companyStatisticsService.decrease(question);
+        }
+    }
+
+    /**
+     * [보관 보상 환불 메서드]
+     * 채택 전에 질문이 삭제되거나 등록 상태를 벗어나면 보관 중인 보상을 질문 작성자에게 돌려준다.
+     * 보관 중 -> 환불 조건부 UPDATE가 성공한 경우에만 지급하므로 채택과 겹쳐도 둘 중 하나만 처리된다.
+     */
+    private void refundReward(final Question question) {
+        if (questionRepository.refundReward(question.getId()) == 1 && question.getReward() > 0) {
+            currencyService.increase(question.getMember().getId(), question.getReward(), CurrencyReason.REWARD_REFUND);
+        }
+    }
+
+    /**
+     * [보상 재보관 메서드]
+     * 환불된 질문이 다시 등록되면 작성자 화폐에서 보상을 다시 차감해 보관한다. (잔액이 부족하면 등록 실패)
+     */
+    private void holdReward(final Question question) {
+        if (questionRepository.holdReward(question.getId()) == 1 && question.getReward() > 0) {
+            currencyService.decrease(question.getMember().getId(), question.getReward(), CurrencyReason.REWARD_HOLD);
+        }
     }
 }
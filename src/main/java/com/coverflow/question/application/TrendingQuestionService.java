@@ -0,0 +1,80 @@
+package com.coverflow.question.application;
+
+import com.coverflow.global.util.TransactionUtil;
+import com.coverflow.question.domain.Question;
+import com.coverflow.question.dto.response.FindTrendingQuestionsResponse;
+import com.coverflow.question.infrastructure.TrendingQuestionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@RequiredArgsConstructor
+@Service
+public class TrendingQuestionService {
+
+    private static final double VIEW_WEIGHT = 1;
+    private static final double ANSWER_WEIGHT = 5;
+    private static final long DECAY_INTERVAL = 10L * 60 * 1000;
+    private static final double DECAY_FACTOR = Math.pow(0.5, 1.0 / 6); // 10분마다 감쇠 → 반감기 1시간
+    private final TrendingQuestionRepository trendingQuestionRepository;
+
+    /**
+     * [인기 질문 조회 메서드]
+     * 메모리에 유지 중인 상위 K개 질문 반환
+     */
+    public FindTrendingQuestionsResponse find() {
+        return FindTrendingQuestionsResponse.from(trendingQuestionRepository.findAll());
+    }
+
+    /**
+     * [특정 기업의 인기 질문 조회 메서드]
+     */
+    public FindTrendingQuestionsResponse findByCompanyId(final long companyId) {
+        return FindTrendingQuestionsResponse.from(trendingQuestionRepository.findByCompanyId(companyId));
+    }
+
+    /**
+     * [질문 조회 이벤트 기록 메서드]
+     */
+    public void recordView(final Question question) {
+        record(question, VIEW_WEIGHT);
+    }
+
+    /**
+     * [답변 등록 이벤트 기록 메서드]
+     */
+    public void recordAnswer(final Question question) {
+        record(question, ANSWER_WEIGHT);
+    }
+
+    /**
+     * [인기 질문 제외 메서드]
+     * 삭제되었거나 등록 상태가 아닌 질문 (커밋 후 반영)
+     */
+    public void delete(final Question question) {
+        long questionId = question.getId();
+        long companyId = question.getCompany().getId();
+        TransactionUtil.afterCommit(() -> trendingQuestionRepository.delete(questionId, companyId));
+    }
+
+    /**
+     * [인기 점수 감쇠 메서드]
+     * 오래된 조회/답변일수록 점수 비중을 줄여 최근 활동 위주로 순위를 유지
+     */
+    @Scheduled(fixedRate = DECAY_INTERVAL)
+    public void decay() {
+        trendingQuestionRepository.decay(DECAY_FACTOR);
+    }
+
+    // 커밋 후 반영
+    private void record(
+            final Question question,
+            final double weight
+    ) {
+        long questionId = question.getId();
+        long companyId = question.getCompany().getId();
+        String companyName = question.getCompany().getName();
+        String title = question.getTitle();
+        TransactionUtil.afterCommit(() -> trendingQuestionRepository.save(questionId, companyId, companyName, title, weight));
+    }
+}
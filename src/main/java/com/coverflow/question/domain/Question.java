@@ -8,6 +8,7 @@ import com.coverflow.question.dto.request.UpdateQuestionRequest;
 import com.coverflow.report.domain.Report;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,6 +18,7 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@DynamicUpdate
 @Entity
 @Table(name = "tbl_question")
 public class Question extends BaseTimeEntity {
@@ -43,6 +45,9 @@ public class Question extends BaseTimeEntity {
     @Enumerated(EnumType.STRING)
     private QuestionStatus questionStatus; // 질문 상태 (등록/삭제)
 
+    @Enumerated(EnumType.STRING)
+    private RewardStatus rewardStatus; // 채택 보상 상태 (보관/지급/환불), 조건부 UPDATE로만 변경
+
     @ManyToOne
     @JoinColumn(name = "company_id")
     private Company company; // 회사 정보
@@ -75,6 +80,7 @@ public class Question extends BaseTimeEntity {
         this.reward = request.reward();
         this.questionTag = QuestionTag.valueOf(request.questionTag());
         this.questionStatus = QuestionStatus.REGISTRATION;
+        this.rewardStatus = RewardStatus.HELD;
         this.company = Company.builder()
                 .id(request.companyId())
                 .build();
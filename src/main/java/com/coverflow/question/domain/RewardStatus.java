@@ -0,0 +1,8 @@
+package com.coverflow.question.domain;
+
+public enum RewardStatus {
+
+    HELD, // 질문 작성 시 작성자 화폐에서 차감되어 보관 중
+    RELEASED, // 채택된 답변 작성자에게 지급 완료
+    REFUNDED // 채택 전에 질문이 삭제/비공개되어 질문 작성자에게 환불 완료
+}
@@ -0,0 +1,16 @@
+package com.coverflow.question.dto;
+
+import com.coverflow.question.domain.QuestionTag;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuestionTagCountDTO {
+
+    private Long companyId;
+    private QuestionTag questionTag;
+    private Long questionCount;
+}
@@ -0,0 +1,16 @@
+package com.coverflow.question.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuestionTextDTO {
+
+    private Long questionId;
+    private Long companyId;
+    private String title;
+    private String content;
+}
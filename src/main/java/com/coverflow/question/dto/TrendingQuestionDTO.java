@@ -0,0 +1,17 @@
+package com.coverflow.question.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingQuestionDTO {
+
+    private long questionId;
+    private long companyId;
+    private String companyName;
+    private String questionTitle;
+    private double trendingScore;
+}
@@ -0,0 +1,14 @@
+package com.coverflow.question.dto.response;
+
+import com.coverflow.question.dto.TrendingQuestionDTO;
+
+import java.util.List;
+
+public record FindTrendingQuestionsResponse(
+        List<TrendingQuestionDTO> questions
+) {
+
+    public static FindTrendingQuestionsResponse from(final List<TrendingQuestionDTO> questions) {
+        return new FindTrendingQuestionsResponse(questions);
+    }
+}
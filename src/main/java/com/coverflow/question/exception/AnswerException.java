@@ -23,4 +23,18 @@ public class AnswerException extends RuntimeException {
             super(String.format("이미 답변이 존재합니다. - request info { id : %d }", id));
         }
     }
+
+    public static class AnswerSelectionException extends AnswerException {
+
+        public AnswerSelectionException(final long id) {
+            super(String.format("채택할 수 없는 답변입니다. 본인 질문이 아니거나 이미 채택된 질문입니다. - request info { id : %d }", id));
+        }
+    }
+
+    public static class SelectionCancelException extends AnswerException {
+
+        public SelectionCancelException(final long id) {
+            super(String.format("채택은 취소할 수 없습니다. - request info { id : %d }", id));
+        }
+    }
 }
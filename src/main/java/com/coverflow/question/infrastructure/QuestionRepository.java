@@ -2,14 +2,24 @@ package com.coverflow.question.infrastructure;
 
 import com.coverflow.question.domain.Question;
 import com.coverflow.question.domain.QuestionStatus;
+import com.coverflow.question.dto.QuestionTagCountDTO;
+import com.coverflow.question.dto.QuestionTextDTO;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static com.coverflow.global.constant.Constant.STREAMING_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface QuestionRepository extends JpaRepository<Question, Long> {
 
@@ -61,5 +71,65 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
             @Param("questionStatus") final QuestionStatus questionStatus
     );
 
-    void deleteByMemberId(UUID id);
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE))
+    @Query("""
+            SELECT new com.coverflow.question.dto.QuestionTextDTO(q.id, q.company.id, q.title, q.content)
+            FROM Question q
+            WHERE q.questionStatus = 'REGISTRATION'
+            """)
+    Stream<QuestionTextDTO> findRegisteredQuestionTexts();
+
+    @Query("""
+            SELECT new com.coverflow.question.dto.QuestionTagCountDTO(q.company.id, q.questionTag, COUNT(q))
+            FROM Question q
+            WHERE q.questionStatus = 'REGISTRATION'
+            GROUP BY q.company.id, q.questionTag
+            """)
+    List<QuestionTagCountDTO> findRegisteredQuestionTagCounts();
+
+    /**
+     * 보관 중인 보상을 지급 완료로 바꾼다.
+     * 질문 작성자 본인이고 아직 보관 중인 경우에만 1행이 변경된다.
+     */
+    @Modifying
+    @Query("""
+            UPDATE Question q
+            SET q.rewardStatus = com.coverflow.question.domain.RewardStatus.RELEASED
+            WHERE q.id = :questionId
+            AND q.member.id = :memberId
+            AND q.questionStatus = com.coverflow.question.domain.QuestionStatus.REGISTRATION
+            AND q.rewardStatus = com.coverflow.question.domain.RewardStatus.HELD
+            """)
+    int releaseReward(
+            @Param("questionId") final long questionId,
+            @Param("memberId") final UUID memberId
+    );
+
+    /**
+     * 보관 중인 보상을 환불 완료로 바꾼다.
+     * 아직 보관 중인 경우에만 1행이 변경되므로 채택과 환불 중 하나만 성공한다.
+     */
+    @Modifying
+    @Query("""
+            UPDATE Question q
+            SET q.rewardStatus = com.coverflow.question.domain.RewardStatus.REFUNDED
+            WHERE q.id = :questionId
+            AND q.rewardStatus = com.coverflow.question.domain.RewardStatus.HELD
+            """)
+    int refundReward(@Param("questionId") final long questionId);
+
+    /**
+     * 환불된 보상을 다시 보관 중으로 바꾼다. (환불된 질문이 다시 등록될 때)
+     * 환불 완료인 경우에만 1행이 변경되므로 재보관은 한 번만 일어난다.
+     */
+    @Modifying
+    @Query("""
+            UPDATE Question q
+            SET q.rewardStatus = com.coverflow.question.domain.RewardStatus.HELD
+            WHERE q.id = :questionId
+            AND q.rewardStatus = com.coverflow.question.domain.RewardStatus.REFUNDED
+            """)
+    int holdReward(@Param("questionId") final long questionId);
+
+    List<Question> findAllByMemberId(final UUID memberId);
 }
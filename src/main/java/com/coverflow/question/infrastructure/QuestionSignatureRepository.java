@@ -0,0 +1,102 @@
+package com.coverflow.question.infrastructure;
+
+import org.springframework.stereotype.Repository;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.coverflow.global.util.MinHashUtil.SIGNATURE_SIZE;
+
+/**
+ * 질문 MinHash 서명 저장소 (LSH)
+ * 서명을 BAND_COUNT개의 밴드로 나누고, (기업 id, 밴드 번호, 밴드 해시)를 버킷 key로 사용한다.
+ * 같은 버킷에 하나라도 들어간 질문만 중복 후보가 된다.
+ */
+@Repository
+public class QuestionSignatureRepository {
+
+    private static final int BAND_COUNT = 16;
+    private static final int ROWS_PER_BAND = SIGNATURE_SIZE / BAND_COUNT;
+
+    private final Map<Long, Signature> signatureMap = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> bucketMap = new ConcurrentHashMap<>();
+
+    public void save(
+            final long questionId,
+            final long companyId,
+            final int[] signature
+    ) {
+        delete(questionId);
+        signatureMap.put(questionId, new Signature(companyId, signature));
+
+        for (int band = 0; band < BAND_COUNT; band++) {
+            bucketMap.computeIfAbsent(bucketKey(companyId, band, signature), key -> ConcurrentHashMap.newKeySet())
+                    .add(questionId);
+        }
+    }
+
+    public Set<Long> findCandidates(
+            final long companyId,
+            final int[] signature
+    ) {
+        Set<Long> candidates = new HashSet<>();
+        for (int band = 0; band < BAND_COUNT; band++) {
+            Set<Long> bucket = bucketMap.get(bucketKey(companyId, band, signature));
+            if (bucket != null) {
+                candidates.addAll(bucket);
+            }
+        }
+        return candidates;
+    }
+
+    public int[] findSignature(
+            final long questionId,
+            final long companyId
+    ) {
+        Signature signature = signatureMap.get(questionId);
+        if (signature == null || signature.companyId() != companyId) {
+            return null;
+        }
+        return signature.values();
+    }
+
+    public void delete(final long questionId) {
+        Signature signature = signatureMap.remove(questionId);
+        if (signature == null) {
+            return;
+        }
+
+        for (int band = 0; band < BAND_COUNT; band++) {
+            long key = bucketKey(signature.companyId(), band, signature.values());
+            bucketMap.computeIfPresent(key, (k, bucket) -> {
+                bucket.remove(questionId);
+                return bucket.isEmpty() ? null : bucket;
+            });
+        }
+    }
+
+    public void deleteAll() {
+        signatureMap.clear();
+        bucketMap.clear();
+    }
+
+    private long bucketKey(
+            final long companyId,
+            final int band,
+            final int[] signature
+    ) {
+        long hash = companyId * 0x9E3779B97F4A7C15L + band;
+        for (int i = band * ROWS_PER_BAND; i < (band + 1) * ROWS_PER_BAND; i++) {
+            hash = (hash ^ signature[i]) * 0xFF51AFD7ED558CCDL;
+        }
+        return hash ^ (hash >>> 33);
+    }
+
+    private record Signature(
+            long companyId,
+            int[] values
+    ) {
+    }
+}
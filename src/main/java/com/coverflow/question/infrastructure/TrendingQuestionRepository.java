@@ -0,0 +1,145 @@
+package com.coverflow.question.infrastructure;
+
+import com.coverflow.global.util.CountMinSketch;
+import com.coverflow.question.dto.TrendingQuestionDTO;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+/**
+ * 인기 질문 저장소
+ * 질문별 감쇠 점수는 Count-Min 스케치로 추정하고,
+ * 전체/기업별 상위 K개 질문만 최소 힙으로 유지한다.
+ */
+@Repository
+public class TrendingQuestionRepository {
+
+    private static final int GLOBAL_SIZE = 10;
+    private static final int COMPANY_SIZE = 5;
+
+    private final CountMinSketch sketch = new CountMinSketch(4, 4096);
+    private final TopQuestions globalTopQuestions = new TopQuestions(GLOBAL_SIZE);
+    private final Map<Long, TopQuestions> companyTopQuestions = new HashMap<>();
+
+    public synchronized void save(
+            final long questionId,
+            final long companyId,
+            final String companyName,
+            final String title,
+            final double weight
+    ) {
+        double score = sketch.add(questionId, weight);
+        TrendingQuestion trendingQuestion = new TrendingQuestion(questionId, companyId, companyName, title, score);
+
+        globalTopQuestions.offer(trendingQuestion);
+        companyTopQuestions.computeIfAbsent(companyId, key -> new TopQuestions(COMPANY_SIZE))
+                .offer(trendingQuestion);
+    }
+
+    public synchronized List<TrendingQuestionDTO> findAll() {
+        return globalTopQuestions.findAll();
+    }
+
+    public synchronized List<TrendingQuestionDTO> findByCompanyId(final long companyId) {
+        TopQuestions topQuestions = companyTopQuestions.get(companyId);
+        if (topQuestions == null) {
+            return new ArrayList<>();
+        }
+        return topQuestions.findAll();
+    }
+
+    public synchronized void decay(final double factor) {
+        sketch.decay(factor);
+        globalTopQuestions.decay(factor);
+        companyTopQuestions.values().forEach(topQuestions -> topQuestions.decay(factor));
+    }
+
+    public synchronized void delete(
+            final long questionId,
+            final long companyId
+    ) {
+        globalTopQuestions.delete(questionId);
+        TopQuestions topQuestions = companyTopQuestions.get(companyId);
+        if (topQuestions != null) {
+            topQuestions.delete(questionId);
+        }
+    }
+
+    private record TrendingQuestion(
+            long questionId,
+            long companyId,
+            String companyName,
+            String title,
+            double score
+    ) {
+    }
+
+    /**
+     * 점수가 가장 낮은 질문이 head에 오는 크기 K의 힙
+     */
+    private static class TopQuestions {
+
+        private final int size;
+        private final PriorityQueue<TrendingQuestion> heap;
+        private final Map<Long, TrendingQuestion> questionMap = new HashMap<>();
+
+        private TopQuestions(final int size) {
+            this.size = size;
+            this.heap = new PriorityQueue<>(size, Comparator.comparingDouble(TrendingQuestion::score));
+        }
+
+        private void offer(final TrendingQuestion trendingQuestion) {
+            TrendingQuestion existing = questionMap.remove(trendingQuestion.questionId());
+            if (existing != null) {
+                heap.remove(existing);
+            } else if (heap.size() >= size) {
+                if (heap.peek().score() >= trendingQuestion.score()) {
+                    return;
+                }
+                questionMap.remove(heap.poll().questionId());
+            }
+
+            heap.add(trendingQuestion);
+            questionMap.put(trendingQuestion.questionId(), trendingQuestion);
+        }
+
+        private void delete(final long questionId) {
+            TrendingQuestion existing = questionMap.remove(questionId);
+            if (existing != null) {
+                heap.remove(existing);
+            }
+        }
+
+        private void decay(final double factor) {
+            List<TrendingQuestion> decayed = heap.stream()
+                    .map(question -> new TrendingQuestion(
+                            question.questionId(),
+                            question.companyId(),
+                            question.companyName(),
+                            question.title(),
+                            question.score() * factor
+                    ))
+                    .toList();
+
+            heap.clear();
+            questionMap.clear();
+            decayed.forEach(question -> {
+                heap.add(question);
+                questionMap.put(question.questionId(), question);
+            });
+        }
+
+        private List<TrendingQuestionDTO> findAll() {
+            return heap.stream()
+                    .sorted(Comparator.comparingDouble(TrendingQuestion::score).reversed())
+                    .map(question -> new TrendingQuestionDTO(
+                            question.questionId(),
+                            question.companyId(),
+                            question.companyName(),
+                            question.title(),
+                            question.score()
+                    ))
+                    .toList();
+        }
+    }
+}
@@ -5,12 +5,14 @@ import com.coverflow.global.annotation.MemberAuthorize;
 import com.coverflow.global.handler.ResponseHandler;
 import com.coverflow.global.util.BadwordUtil;
 import com.coverflow.question.application.QuestionService;
+import com.coverflow.question.application.TrendingQuestionService;
 import com.coverflow.question.domain.QuestionStatus;
 import com.coverflow.question.dto.request.SaveQuestionRequest;
 import com.coverflow.question.dto.request.UpdateQuestionRequest;
 import com.coverflow.question.dto.response.FindAllQuestionsResponse;
 import com.coverflow.question.dto.response.FindMyQuestionsResponse;
 import com.coverflow.question.dto.response.FindQuestionResponse;
+import com.coverflow.question.dto.response.FindTrendingQuestionsResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
@@ -30,6 +32,7 @@ import java.util.UUID;
 public class QuestionController {
 
     private final QuestionService questionService;
+    private final TrendingQuestionService trendingQuestionService;
 
     @GetMapping("/me")
     @MemberAuthorize
@@ -46,6 +49,20 @@ public class QuestionController {
                 );
     }
 
+    @GetMapping("/trending")
+    public ResponseEntity<ResponseHandler<FindTrendingQuestionsResponse>> findTrendingQuestions(
+            @RequestParam(required = false) @Positive final Long companyId
+    ) {
+        return ResponseEntity.ok()
+                .body(ResponseHandler.<FindTrendingQuestionsResponse>builder()
+                        .statusCode(HttpStatus.OK)
+                        .data(companyId == null
+                                ? trendingQuestionService.find()
+                                : trendingQuestionService.findByCompanyId(companyId))
+                        .build()
+                );
+    }
+
     @GetMapping("/{questionId}")
     @MemberAuthorize
     public ResponseEntity<ResponseHandler<FindQuestionResponse>> findByQuestionId(
@@ -96,8 +113,7 @@ public class QuestionController {
             @RequestBody @Valid final SaveQuestionRequest request,
             @AuthenticationPrincipal final UserDetails userDetails
     ) {
-        BadwordUtil.check(request.title());
-        BadwordUtil.check(request.content());
+        BadwordUtil.check(request.title(), request.content());
         questionService.save(request, userDetails.getUsername());
         return ResponseEntity.ok()
                 .body(ResponseHandler.<Void>builder()
@@ -111,8 +127,7 @@ public class QuestionController {
             @PathVariable @Positive final long questionId,
             @RequestBody @Valid final UpdateQuestionRequest request
     ) {
-        BadwordUtil.check(request.title());
-        BadwordUtil.check(request.content());
+        BadwordUtil.check(request.title(), request.content());
         questionService.update(questionId, request);
         return ResponseEntity.ok()
                 .body(ResponseHandler.<Void>builder()
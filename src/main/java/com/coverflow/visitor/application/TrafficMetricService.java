@@ -0,0 +1,97 @@
+package com.coverflow.visitor.application;
+
+import com.coverflow.visitor.domain.TrafficGranularity;
+import com.coverflow.visitor.dto.response.FindTrafficMetricsResponse;
+import com.coverflow.visitor.exception.VisitorException;
+import com.coverflow.visitor.infrastructure.TrafficCounterRepository;
+import com.coverflow.visitor.infrastructure.TrafficMetricRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Log4j2
+@RequiredArgsConstructor
+@Service
+public class TrafficMetricService {
+
+    private final TrafficMetricRepository trafficMetricRepository;
+    private final TrafficCounterRepository trafficCounterRepository;
+
+    /**
+     * [요청 수 기록 메서드]
+     */
+    public void recordRequest() {
+        trafficCounterRepository.increaseRequest(LocalDateTime.now());
+    }
+
+    /**
+     * [로그인 수 기록 메서드]
+     */
+    public void recordVisitor() {
+        trafficCounterRepository.increaseVisitor(LocalDateTime.now());
+    }
+
+    /**
+     * [관리자 전용: 기간별 트래픽 지표 조회 메서드]
+     * 기간과 보관 기간에 맞춰 분/시/일 단위 중 하나를 골라, 수백 행 이내로 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public FindTrafficMetricsResponse findByPeriod(
+            final LocalDateTime startAt,
+            final LocalDateTime endAt
+    ) {
+        if (!startAt.isBefore(endAt)) {
+            throw new VisitorException.InvalidPeriodException(startAt + " ~ " + endAt);
+        }
+
+        TrafficGranularity granularity = TrafficGranularity.select(startAt, endAt, LocalDateTime.now());
+        return FindTrafficMetricsResponse.of(
+                granularity,
+                trafficMetricRepository.findByPeriod(granularity, granularity.truncate(startAt), endAt)
+        );
+    }
+
+    /**
+     * [트래픽 지표 반영 메서드]
+     * 10초마다, 그리고 종료 직전에 분 버킷 값을 분/시/일 버킷에 하나의 upsert로 더한다. (쓰기 시점 롤업)
+     * 세 단위가 함께 반영되거나 함께 실패하므로, 실패한 값은 카운터에 되돌려 다음 주기에 다시 시도해도 중복 집계되지 않는다.
+     */
+    @Scheduled(fixedDelay = 10_000)
+    @PreDestroy
+    public synchronized void flush() {
+        trafficCounterRepository.drain(LocalDateTime.now(), (bucketAt, requestCount, visitorCount) -> {
+            try {
+                trafficMetricRepository.upsert(
+                        TrafficGranularity.MINUTE.truncate(bucketAt),
+                        TrafficGranularity.HOUR.truncate(bucketAt),
+                        TrafficGranularity.DAY.truncate(bucketAt),
+                        requestCount,
+                        visitorCount
+                );
+            } catch (RuntimeException e) {
+                log.error("트래픽 지표 반영 실패 - {}", bucketAt, e);
+                trafficCounterRepository.add(bucketAt, requestCount, visitorCount);
+            }
+        });
+    }
+
+    /**
+     * [보관 기간 지난 트래픽 지표 삭제 메서드]
+     * 매일 새벽 1시에
+     * 상위 단위로 이미 롤업된 분/시 단위 버킷 중 보관 기간이 지난 버킷을 삭제합니다.
+     */
+    @Scheduled(cron = "0 0 1 * * ?")
+    public void deleteExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        for (TrafficGranularity granularity : TrafficGranularity.values()) {
+            if (granularity.getRetention() != null) {
+                trafficMetricRepository.deleteExpired(granularity, now.minus(granularity.getRetention()));
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.coverflow.visitor.application;
+
+import com.coverflow.global.util.HyperLogLog;
+import com.coverflow.visitor.domain.UniqueVisitor;
+import com.coverflow.visitor.dto.response.FindUniqueVisitorResponse;
+import com.coverflow.visitor.infrastructure.UniqueVisitorRepository;
+import com.coverflow.visitor.infrastructure.UniqueVisitorSketchRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Log4j2
+@RequiredArgsConstructor
+@Service
+public class UniqueVisitorService {
+
+    private static final int WEEK_DAYS = 7;
+    private static final int MONTH_DAYS = 30;
+
+    private final UniqueVisitorRepository uniqueVisitorRepository;
+    private final UniqueVisitorSketchRepository uniqueVisitorSketchRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * [순 방문자 기록 메서드]
+     * 로그인, 인증된 요청마다 호출되며 오늘 스케치에 회원 id만 추가한다.
+     */
+    public void record(final UUID memberId) {
+        uniqueVisitorSketchRepository.add(
+                LocalDate.now(),
+                memberId.getMostSignificantBits() ^ Long.rotateLeft(memberId.getLeastSignificantBits(), 32)
+        );
+    }
+
+    /**
+     * [관리자 전용: 일/주/월 순 방문자 수 조회 메서드]
+     * 최근 30일 스케치를 최신 날짜부터 하나의 스케치에 병합하면서
+     * 1일, 7일, 30일 시점의 추정치를 꺼낸다.
+     */
+    @Transactional(readOnly = true)
+    public FindUniqueVisitorResponse findUniqueCount() {
+        LocalDate today = LocalDate.now();
+        List<UniqueVisitor> uniqueVisitors = uniqueVisitorRepository.findByPeriod(today.minusDays(MONTH_DAYS - 1), today);
+
+        HyperLogLog merged = new HyperLogLog();
+        long dailyCount = 0;
+        long weeklyCount = 0;
+        int index = 0;
+        for (int day = 0; day < MONTH_DAYS; day++) {
+            LocalDate date = today.minusDays(day);
+
+            HyperLogLog pendingSketch = uniqueVisitorSketchRepository.findByDate(date);
+            if (pendingSketch != null) {
+                merged.merge(pendingSketch);
+            }
+            while (index < uniqueVisitors.size() && !uniqueVisitors.get(index).getVisitedAt().isBefore(date)) {
+                merged.merge(HyperLogLog.from(uniqueVisitors.get(index++).getSketch()));
+            }
+
+            if (day == 0) {
+                dailyCount = merged.estimate();
+            }
+            if (day == WEEK_DAYS - 1) {
+                weeklyCount = merged.estimate();
+            }
+        }
+        return FindUniqueVisitorResponse.of(dailyCount, weeklyCount, merged.estimate(), today);
+    }
+
+    /**
+     * [순 방문자 스케치 반영 메서드]
+     * 1분마다, 그리고 종료 직전에 메모리 스케치를 DB 스케치와 병합해 저장한다.
+     * 날짜마다 한 트랜잭션에서 행 잠금 후 읽기-병합-쓰기를 하므로 다른 서버의 병합 결과를 덮어쓰지 않는다.
+     * 실패한 스케치(같은 날짜 행을 동시에 처음 만드는 경우 등)는 메모리에 되돌려 다음 반영 때 다시 병합한다.
+     */
+    @Scheduled(fixedDelay = 60_000)
+    @PreDestroy
+    public synchronized void flush() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        uniqueVisitorSketchRepository.forEach(LocalDate.now(), (date, sketch) -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> merge(date, sketch));
+            } catch (RuntimeException e) {
+                log.error("순 방문자 스케치 반영 실패 - {}", date, e);
+                uniqueVisitorSketchRepository.save(date, sketch);
+            }
+        });
+    }
+
+    private void merge(
+            final LocalDate date,
+            final HyperLogLog sketch
+    ) {
+        uniqueVisitorRepository.findByVisitedAtForUpdate(date)
+                .ifPresentOrElse(uniqueVisitor -> {
+                    HyperLogLog saved = HyperLogLog.from(uniqueVisitor.getSketch());
+                    saved.merge(sketch);
+                    uniqueVisitor.updateSketch(saved.toByteArray());
+                }, () -> uniqueVisitorRepository.save(new UniqueVisitor(date, sketch.toByteArray())));
+    }
+}
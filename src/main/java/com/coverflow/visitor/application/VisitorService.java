@@ -3,48 +3,68 @@ package com.coverflow.visitor.application;
 import com.coverflow.visitor.domain.Visitor;
 import com.coverflow.visitor.dto.response.FindDailyVisitorResponse;
 import com.coverflow.visitor.exception.VisitorException;
+import com.coverflow.visitor.infrastructure.VisitorCounterRepository;
 import com.coverflow.visitor.infrastructure.VisitorRepository;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 
 @Log4j2
 @RequiredArgsConstructor
 @Service
 public class VisitorService {
-    private final String NOW = String.valueOf(LocalDateTime.now()).substring(0, 10);
+
     private final VisitorRepository visitorRepository;
+    private final VisitorCounterRepository visitorCounterRepository;
+    private final TrafficMetricService trafficMetricService;
 
     /**
      * [관리자 전용: 일일 방문자 수 조회 메서드]
+     * DB에 반영된 값 + 아직 반영되지 않은 메모리 값
      */
     @Transactional(readOnly = true)
     public FindDailyVisitorResponse findDailyCount() {
-        Visitor visitor = visitorRepository.findByToday(NOW)
-                .orElseThrow(() -> new VisitorException.DayNotFoundException(NOW));
-        return FindDailyVisitorResponse.from(visitor);
+        LocalDate today = LocalDate.now();
+        long pendingCount = visitorCounterRepository.findByDate(today);
+        int savedCount = visitorRepository.findByToday(today.toString())
+                .map(Visitor::getCount)
+                .orElse(0);
+
+        if (savedCount == 0 && pendingCount == 0) {
+            throw new VisitorException.DayNotFoundException(today);
+        }
+        return FindDailyVisitorResponse.of((int) (savedCount + pendingCount), today);
     }
 
     /**
      * [일일 방문자 수 업데이트 메서드]
-     * 오늘 날짜 조회해서 없으면 새로 저장
-     * 있으면 카운트 +1
+     * 실제 시계 기준 오늘 날짜의 메모리 카운터만 증가시키고, DB 반영은 flush()에서 한다.
      */
     public void update() {
-        log.info(NOW);
-        Visitor visitor = visitorRepository.findByToday(NOW).orElse(null);
-        Visitor newVisitor = Visitor.builder()
-                .today(NOW)
-                .count(1)
-                .build();
-
-        if (visitor == null) {
-            visitorRepository.save(newVisitor);
-            return;
-        }
-        visitor.updateVisitors(visitor.getCount() + 1);
+        visitorCounterRepository.increase(LocalDate.now());
+        trafficMetricService.recordVisitor();
+    }
+
+    /**
+     * [방문자 수 반영 메서드]
+     * 10초마다, 그리고 종료 직전에 날짜별 누적 값을 upsert로 더한다.
+     * 반영에 실패한 값은 카운터에 되돌려 다음 주기에 다시 시도한다.
+     */
+    @Scheduled(fixedDelay = 10_000)
+    @PreDestroy
+    public synchronized void flush() {
+        visitorCounterRepository.drain(LocalDate.now(), (date, count) -> {
+            try {
+                visitorRepository.upsert(date.toString(), count);
+            } catch (RuntimeException e) {
+                log.error("방문자 수 반영 실패 - {} {}명", date, count, e);
+                visitorCounterRepository.add(date, count);
+            }
+        });
     }
 }
@@ -0,0 +1,59 @@
+package com.coverflow.visitor.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 트래픽 지표 버킷 단위
+ * maxRange: 이 단위로 조회할 최대 기간 (조회 행 수를 수백 개로 제한)
+ * retention: 보관 기간 (null이면 영구 보관)
+ */
+public enum TrafficGranularity {
+
+    MINUTE(ChronoUnit.MINUTES, Duration.ofHours(6), Duration.ofDays(2)),
+    HOUR(ChronoUnit.HOURS, Duration.ofDays(14), Duration.ofDays(90)),
+    DAY(ChronoUnit.DAYS, null, null);
+
+    private final ChronoUnit unit;
+    private final Duration maxRange;
+    private final Duration retention;
+
+    TrafficGranularity(
+            final ChronoUnit unit,
+            final Duration maxRange,
+            final Duration retention
+    ) {
+        this.unit = unit;
+        this.maxRange = maxRange;
+        this.retention = retention;
+    }
+
+    public LocalDateTime truncate(final LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    /**
+     * [조회 단위 선택 메서드]
+     * 기간을 maxRange 안에 담을 수 있고, 시작 시점이 아직 보관 중인 가장 세밀한 단위
+     */
+    public static TrafficGranularity select(
+            final LocalDateTime startAt,
+            final LocalDateTime endAt,
+            final LocalDateTime now
+    ) {
+        Duration range = Duration.between(startAt, endAt);
+        for (TrafficGranularity granularity : values()) {
+            boolean fitsRange = granularity.maxRange == null || range.compareTo(granularity.maxRange) <= 0;
+            boolean retained = granularity.retention == null || !startAt.isBefore(now.minus(granularity.retention));
+            if (fitsRange && retained) {
+                return granularity;
+            }
+        }
+        return DAY;
+    }
+}
@@ -0,0 +1,32 @@
+package com.coverflow.visitor.domain;
+
+import com.coverflow.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "tbl_traffic_metric",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "traffic_metric_bucket_uk", columnNames = {"granularity", "bucket_at"})
+        })
+public class TrafficMetric extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // 트래픽 지표 고유 번호
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private TrafficGranularity granularity; // 버킷 단위 (분/시/일)
+    @Column(nullable = false)
+    private LocalDateTime bucketAt; // 버킷 시작 시간
+    @Column(nullable = false)
+    private long requestCount; // 요청 수
+    @Column(nullable = false)
+    private long visitorCount; // 로그인 수
+}
@@ -0,0 +1,40 @@
+package com.coverflow.visitor.domain;
+
+import com.coverflow.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "tbl_unique_visitor",
+        indexes = {
+                @Index(name = "unique_visitor_visited_at_idx", columnList = "visitedAt", unique = true)
+        })
+public class UniqueVisitor extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // 순 방문자 고유 번호
+    @Column(nullable = false)
+    private LocalDate visitedAt; // 방문 날짜
+    @Lob
+    @Column(nullable = false)
+    private byte[] sketch; // 회원 id HyperLogLog 레지스터
+
+    public UniqueVisitor(
+            final LocalDate visitedAt,
+            final byte[] sketch
+    ) {
+        this.visitedAt = visitedAt;
+        this.sketch = sketch;
+    }
+
+    public void updateSketch(final byte[] sketch) {
+        this.sketch = sketch;
+    }
+}
@@ -9,7 +9,10 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "tbl_visitor")
+@Table(name = "tbl_visitor",
+        indexes = {
+                @Index(name = "visitor_today_idx", columnList = "today", unique = true)
+        })
 public class Visitor extends BaseTimeEntity {
 
     @Id
@@ -0,0 +1,10 @@
+package com.coverflow.visitor.dto;
+
+import java.time.LocalDateTime;
+
+public record TrafficMetricDTO(
+        LocalDateTime bucketAt,
+        long requestCount,
+        long visitorCount
+) {
+}
@@ -0,0 +1,21 @@
+package com.coverflow.visitor.dto.response;
+
+import com.coverflow.visitor.domain.TrafficGranularity;
+import com.coverflow.visitor.dto.TrafficMetricDTO;
+
+import java.util.List;
+
+public record FindTrafficMetricsResponse(
+        TrafficGranularity granularity,
+        List<TrafficMetricDTO> metrics
+) {
+    public static FindTrafficMetricsResponse of(
+            final TrafficGranularity granularity,
+            final List<TrafficMetricDTO> metrics
+    ) {
+        return new FindTrafficMetricsResponse(
+                granularity,
+                metrics
+        );
+    }
+}
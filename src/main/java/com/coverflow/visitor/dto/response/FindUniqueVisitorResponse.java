@@ -0,0 +1,24 @@
+package com.coverflow.visitor.dto.response;
+
+import java.time.LocalDate;
+
+public record FindUniqueVisitorResponse(
+        long dailyCount,
+        long weeklyCount,
+        long monthlyCount,
+        LocalDate createdAt
+) {
+    public static FindUniqueVisitorResponse of(
+            final long dailyCount,
+            final long weeklyCount,
+            final long monthlyCount,
+            final LocalDate createdAt
+    ) {
+        return new FindUniqueVisitorResponse(
+                dailyCount,
+                weeklyCount,
+                monthlyCount,
+                createdAt
+        );
+    }
+}
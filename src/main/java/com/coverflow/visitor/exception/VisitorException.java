@@ -12,4 +12,11 @@ public class VisitorException extends RuntimeException {
             super(String.format("오늘 날짜가 존재하지 않습니다. - request info => %s", data));
         }
     }
+
+    public static class InvalidPeriodException extends VisitorException {
+
+        public InvalidPeriodException(final Object data) {
+            super(String.format("조회 기간이 올바르지 않습니다. - request info => %s", data));
+        }
+    }
 }
@@ -0,0 +1,75 @@
+package com.coverflow.visitor.infrastructure;
+
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 아직 DB에 반영되지 않은 분 단위 트래픽 카운터 저장소
+ */
+@Repository
+public class TrafficCounterRepository {
+
+    private final Map<LocalDateTime, Counter> counters = new ConcurrentHashMap<>();
+
+    public void increaseRequest(final LocalDateTime time) {
+        findCounter(time).requestCount().increment();
+    }
+
+    public void increaseVisitor(final LocalDateTime time) {
+        findCounter(time).visitorCount().increment();
+    }
+
+    public void add(
+            final LocalDateTime bucketAt,
+            final long requestCount,
+            final long visitorCount
+    ) {
+        Counter counter = findCounter(bucketAt);
+        counter.requestCount().add(requestCount);
+        counter.visitorCount().add(visitorCount);
+    }
+
+    /**
+     * 분 버킷별 누적 값을 0으로 되돌리면서 consumer에 넘긴다.
+     * 지나간 분의 카운터는 비운 뒤 제거한다.
+     */
+    public void drain(
+            final LocalDateTime now,
+            final CounterConsumer consumer
+    ) {
+        LocalDateTime currentBucket = now.truncatedTo(ChronoUnit.MINUTES);
+        counters.forEach((bucketAt, counter) -> {
+            long requestCount = counter.requestCount().sumThenReset();
+            long visitorCount = counter.visitorCount().sumThenReset();
+            if (bucketAt.isBefore(currentBucket)) {
+                counters.remove(bucketAt, counter);
+                // 제거 직전에 들어온 증가분도 놓치지 않는다.
+                requestCount += counter.requestCount().sumThenReset();
+                visitorCount += counter.visitorCount().sumThenReset();
+            }
+            if (requestCount > 0 || visitorCount > 0) {
+                consumer.accept(bucketAt, requestCount, visitorCount);
+            }
+        });
+    }
+
+    private Counter findCounter(final LocalDateTime time) {
+        return counters.computeIfAbsent(time.truncatedTo(ChronoUnit.MINUTES), bucketAt -> new Counter(new LongAdder(), new LongAdder()));
+    }
+
+    @FunctionalInterface
+    public interface CounterConsumer {
+        void accept(LocalDateTime bucketAt, long requestCount, long visitorCount);
+    }
+
+    private record Counter(
+            LongAdder requestCount,
+            LongAdder visitorCount
+    ) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.coverflow.visitor.infrastructure;
+
+import com.coverflow.visitor.domain.TrafficGranularity;
+import com.coverflow.visitor.domain.TrafficMetric;
+import com.coverflow.visitor.dto.TrafficMetricDTO;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TrafficMetricRepository extends JpaRepository<TrafficMetric, Long> {
+
+    @Query("""
+            SELECT new com.coverflow.visitor.dto.TrafficMetricDTO(t.bucketAt, t.requestCount, t.visitorCount)
+            FROM TrafficMetric t
+            WHERE t.granularity = :granularity
+            AND t.bucketAt >= :startAt
+            AND t.bucketAt < :endAt
+            ORDER BY t.bucketAt ASC
+            """)
+    List<TrafficMetricDTO> findByPeriod(
+            @Param("granularity") final TrafficGranularity granularity,
+            @Param("startAt") final LocalDateTime startAt,
+            @Param("endAt") final LocalDateTime endAt
+    );
+
+    /**
+     * 분/시/일 버킷 행이 없으면 만들고, 있으면 값만큼 원자적으로 더한다. ((granularity, bucket_at) 유니크 키 기준)
+     * 세 단위를 한 문장으로 반영하므로 일부 단위만 반영된 채 실패하는 경우가 없다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO tbl_traffic_metric (granularity, bucket_at, request_count, visitor_count, created_at, updated_at)
+            VALUES ('MINUTE', :minuteAt, :requestCount, :visitorCount, NOW(), NOW()),
+                   ('HOUR', :hourAt, :requestCount, :visitorCount, NOW(), NOW()),
+                   ('DAY', :dayAt, :requestCount, :visitorCount, NOW(), NOW())
+            ON DUPLICATE KEY UPDATE request_count = request_count + VALUES(request_count),
+                                    visitor_count = visitor_count + VALUES(visitor_count),
+                                    updated_at = NOW()
+            """, nativeQuery = true)
+    int upsert(
+            @Param("minuteAt") final LocalDateTime minuteAt,
+            @Param("hourAt") final LocalDateTime hourAt,
+            @Param("dayAt") final LocalDateTime dayAt,
+            @Param("requestCount") final long requestCount,
+            @Param("visitorCount") final long visitorCount
+    );
+
+    @Transactional
+    @Modifying
+    @Query("""
+            DELETE FROM TrafficMetric t
+            WHERE t.granularity = :granularity
+            AND t.bucketAt < :bucketAt
+            """)
+    int deleteExpired(
+            @Param("granularity") final TrafficGranularity granularity,
+            @Param("bucketAt") final LocalDateTime bucketAt
+    );
+}
@@ -0,0 +1,39 @@
+package com.coverflow.visitor.infrastructure;
+
+import com.coverflow.visitor.domain.UniqueVisitor;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface UniqueVisitorRepository extends JpaRepository<UniqueVisitor, Long> {
+
+    Optional<UniqueVisitor> findByVisitedAt(final LocalDate visitedAt);
+
+    /**
+     * 스케치 병합용 조회 (여러 서버가 같은 날짜를 동시에 병합해도 덮어쓰지 않도록 행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT u
+            FROM UniqueVisitor u
+            WHERE u.visitedAt = :visitedAt
+            """)
+    Optional<UniqueVisitor> findByVisitedAtForUpdate(@Param("visitedAt") final LocalDate visitedAt);
+
+    @Query("""
+            SELECT u
+            FROM UniqueVisitor u
+            WHERE u.visitedAt BETWEEN :startDate AND :endDate
+            ORDER BY u.visitedAt DESC
+            """)
+    List<UniqueVisitor> findByPeriod(
+            @Param("startDate") final LocalDate startDate,
+            @Param("endDate") final LocalDate endDate
+    );
+}
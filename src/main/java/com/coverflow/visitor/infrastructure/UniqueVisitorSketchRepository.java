@@ -0,0 +1,55 @@
+package com.coverflow.visitor.infrastructure;
+
+import com.coverflow.global.util.HyperLogLog;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * 아직 DB에 반영되지 않은 날짜별 순 방문자 스케치 저장소
+ */
+@Repository
+public class UniqueVisitorSketchRepository {
+
+    private final Map<LocalDate, HyperLogLog> sketches = new ConcurrentHashMap<>();
+
+    public void add(
+            final LocalDate date,
+            final long key
+    ) {
+        sketches.computeIfAbsent(date, sketchDate -> new HyperLogLog()).add(key);
+    }
+
+    public HyperLogLog findByDate(final LocalDate date) {
+        return sketches.get(date);
+    }
+
+    /**
+     * 날짜별 스케치를 consumer에 넘기고, 지나간 날짜의 스케치는 제거한다.
+     * 병합은 멱등이므로 오늘 스케치는 남겨 두고 매번 다시 병합해도 된다.
+     */
+    public void forEach(
+            final LocalDate today,
+            final BiConsumer<LocalDate, HyperLogLog> consumer
+    ) {
+        sketches.forEach((date, sketch) -> {
+            if (date.isBefore(today)) {
+                sketches.remove(date, sketch);
+            }
+            consumer.accept(date, sketch);
+        });
+    }
+
+    public void save(
+            final LocalDate date,
+            final HyperLogLog sketch
+    ) {
+        sketches.merge(date, sketch, (current, added) -> {
+            current.merge(added);
+            return current;
+        });
+    }
+}
@@ -0,0 +1,56 @@
+package com.coverflow.visitor.infrastructure;
+
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * 아직 DB에 반영되지 않은 날짜별 방문자 수 저장소
+ * 날짜마다 LongAdder를 두어 동시 로그인에도 락 없이 증가시킨다.
+ */
+@Repository
+public class VisitorCounterRepository {
+
+    private final Map<LocalDate, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public void increase(final LocalDate date) {
+        counters.computeIfAbsent(date, key -> new LongAdder()).increment();
+    }
+
+    public void add(
+            final LocalDate date,
+            final long count
+    ) {
+        counters.computeIfAbsent(date, key -> new LongAdder()).add(count);
+    }
+
+    public long findByDate(final LocalDate date) {
+        LongAdder counter = counters.get(date);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * 날짜별 누적 값을 0으로 되돌리면서 consumer에 넘긴다.
+     * 지나간 날짜의 카운터는 비운 뒤 제거한다.
+     */
+    public void drain(
+            final LocalDate today,
+            final BiConsumer<LocalDate, Long> consumer
+    ) {
+        counters.forEach((date, counter) -> {
+            long count = counter.sumThenReset();
+            if (date.isBefore(today)) {
+                counters.remove(date, counter);
+                // 제거 직전에 들어온 증가분도 놓치지 않는다.
+                count += counter.sumThenReset();
+            }
+            if (count > 0) {
+                consumer.accept(date, count);
+            }
+        });
+    }
+}
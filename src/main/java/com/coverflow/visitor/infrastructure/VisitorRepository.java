@@ -2,9 +2,28 @@ package com.coverflow.visitor.infrastructure;
 
 import com.coverflow.visitor.domain.Visitor;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface VisitorRepository extends JpaRepository<Visitor, Integer> {
     Optional<Visitor> findByToday(final String today);
+
+    /**
+     * 날짜 행이 없으면 만들고, 있으면 count만큼 원자적으로 더한다. (today 유니크 인덱스 기준)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO tbl_visitor (today, count, created_at, updated_at)
+            VALUES (:today, :count, NOW(), NOW())
+            ON DUPLICATE KEY UPDATE count = count + :count, updated_at = NOW()
+            """, nativeQuery = true)
+    int upsert(
+            @Param("today") final String today,
+            @Param("count") final long count
+    );
 }
@@ -2,21 +2,31 @@ package com.coverflow.visitor.presentation;
 
 import com.coverflow.global.annotation.AdminAuthorize;
 import com.coverflow.global.handler.ResponseHandler;
+import com.coverflow.visitor.application.TrafficMetricService;
+import com.coverflow.visitor.application.UniqueVisitorService;
 import com.coverflow.visitor.application.VisitorService;
 import com.coverflow.visitor.dto.response.FindDailyVisitorResponse;
+import com.coverflow.visitor.dto.response.FindTrafficMetricsResponse;
+import com.coverflow.visitor.dto.response.FindUniqueVisitorResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
+
 @RequiredArgsConstructor
 @RequestMapping("/api/visitor")
 @RestController
 public class VisitorController {
 
     private final VisitorService visitorService;
+    private final UniqueVisitorService uniqueVisitorService;
+    private final TrafficMetricService trafficMetricService;
 
     @GetMapping("/admin")
     @AdminAuthorize
@@ -29,4 +39,28 @@ public class VisitorController {
                 );
     }
 
+    @GetMapping("/admin/unique")
+    @AdminAuthorize
+    public ResponseEntity<ResponseHandler<FindUniqueVisitorResponse>> findUniqueCount() {
+        return ResponseEntity.ok()
+                .body(ResponseHandler.<FindUniqueVisitorResponse>builder()
+                        .statusCode(HttpStatus.OK)
+                        .data(uniqueVisitorService.findUniqueCount())
+                        .build()
+                );
+    }
+
+    @GetMapping("/admin/traffic")
+    @AdminAuthorize
+    public ResponseEntity<ResponseHandler<FindTrafficMetricsResponse>> findTrafficMetrics(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime startAt,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime endAt
+    ) {
+        return ResponseEntity.ok()
+                .body(ResponseHandler.<FindTrafficMetricsResponse>builder()
+                        .statusCode(HttpStatus.OK)
+                        .data(trafficMetricService.findByPeriod(startAt, endAt))
+                        .build()
+                );
+    }
 }
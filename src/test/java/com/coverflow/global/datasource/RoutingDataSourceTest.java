@@ -0,0 +1,121 @@
+package com.coverflow.global.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 임베디드 DB 두 개(프라이머리/레플리카)로 readOnly 라우팅과 레플리카 장애 시 프라이머리 대체를 확인한다.
+ */
+class RoutingDataSourceTest {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private ToggleableDataSource replicaDataSource;
+    private RoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        primary = createDatabase("PRIMARY");
+        replica = createDatabase("REPLICA");
+        replicaDataSource = new ToggleableDataSource(replica);
+        routingDataSource = new RoutingDataSource(primary, replicaDataSource, 5);
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void 레플리카_확인_전에는_프라이머리를_사용한다() {
+        assertEquals("PRIMARY", findSource(true));
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_레플리카를_사용한다() {
+        routingDataSource.checkReplica();
+
+        assertEquals("REPLICA", findSource(true));
+        assertEquals("PRIMARY", findSource(false));
+    }
+
+    @Test
+    void 레플리카가_비정상이면_프라이머리로_대체한다() {
+        routingDataSource.checkReplica();
+        replicaDataSource.down = true;
+        routingDataSource.checkReplica();
+
+        assertEquals("PRIMARY", findSource(true));
+    }
+
+    @Test
+    void 레플리카가_복구되면_다시_레플리카를_사용한다() {
+        replicaDataSource.down = true;
+        routingDataSource.checkReplica();
+        replicaDataSource.down = false;
+        routingDataSource.checkReplica();
+
+        assertEquals("REPLICA", findSource(true));
+    }
+
+    private String findSource(final boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("SELECT name FROM tbl_source", String.class));
+    }
+
+    private static EmbeddedDatabase createDatabase(final String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE tbl_source (name VARCHAR(10))");
+        jdbcTemplate.update("INSERT INTO tbl_source (name) VALUES (?)", name);
+        return database;
+    }
+
+    /**
+     * 장애 상황을 흉내 내기 위해 연결을 거부할 수 있는 DataSource
+     */
+    private static class ToggleableDataSource extends DelegatingDataSource {
+
+        private volatile boolean down = false;
+
+        private ToggleableDataSource(final DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLException("레플리카 연결 불가");
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.coverflow.global.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HangulNormalizerTest {
+
+    private static final AhoCorasick BADWORDS = new AhoCorasick(List.of("시발", "ㅅㅂ", "fuck"));
+
+    @Test
+    void 한_글자_조각만_이어_붙인다() {
+        assertEquals("시발", HangulNormalizer.normalize("시 발"));
+        assertEquals("시발", HangulNormalizer.normalize("시.발!"));
+        assertEquals("ㅅㅂ", HangulNormalizer.normalize("ㅅ ㅂ"));
+        assertEquals("시발 놈아", HangulNormalizer.normalize("시 발 놈아"));
+    }
+
+    @Test
+    void 한_글자_조각과_여러_글자_단어_사이는_경계를_남긴다() {
+        assertEquals("로그인 시 발생하는 오류", HangulNormalizer.normalize("로그인 시 발생하는 오류"));
+        assertEquals("면접 시 발음이 중요", HangulNormalizer.normalize("면접 시 발음이 중요"));
+        assertEquals("회의시 발표", HangulNormalizer.normalize("회의시 발표"));
+    }
+
+    @Test
+    void 자모를_음절로_조합한다() {
+        assertEquals("시발", HangulNormalizer.normalize("ㅅㅣㅂㅏㄹ"));
+        assertEquals("시발", HangulNormalizer.normalize("ㅅㅣ ㅂㅏㄹ"));
+        assertEquals("시발", HangulNormalizer.normalize("ㅅ ㅣ ㅂ ㅏ ㄹ"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "시발",
+            "시 발",
+            "시.발",
+            "시🔥발",
+            "ㅅ ㅂ",
+            "ㅅㅣㅂㅏㄹ",
+            "ㅅ ㅣ ㅂ ㅏ ㄹ",
+            "정말 시 발 같은 면접",
+            "F u C k",
+    })
+    void 우회한_비속어를_찾는다(final String text) {
+        assertTrue(BADWORDS.containsAny(HangulNormalizer.normalize(text)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "로그인 시 발생하는 오류",
+            "면접 시 발음이 중요",
+            "회의 시 발표",
+            "회의시 발표",
+            "입사 시 발령 부서는 어디인가요?",
+            "필기 시험 시 발견한 문제",
+    })
+    void 정상_문장은_비속어로_판단하지_않는다(final String text) {
+        assertFalse(BADWORDS.containsAny(HangulNormalizer.normalize(text)));
+    }
+}
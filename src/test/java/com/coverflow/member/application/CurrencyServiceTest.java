@@ -0,0 +1,146 @@
+package com.coverflow.member.application;
+
+import com.coverflow.member.domain.CurrencyReason;
+import com.coverflow.member.domain.Member;
+import com.coverflow.member.domain.MemberStatus;
+import com.coverflow.member.exception.MemberException;
+import com.coverflow.member.infrastructure.CurrencyLedgerRepository;
+import com.coverflow.member.infrastructure.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 동시 차감/지급 시 잔액이 음수가 되거나 변경이 유실되지 않는지, 내역 합계가 잔액 변화와 일치하는지 확인한다.
+ */
+@DataJpaTest
+@Import({CurrencyService.class, CurrencyLedgerService.class, CurrencyLedgerRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CurrencyServiceTest {
+
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired
+    private CurrencyService currencyService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 동시에_차감해도_잔액보다_많이_차감되지_않는다() throws Exception {
+        UUID memberId = saveMember(100);
+        AtomicInteger spent = new AtomicInteger();
+
+        runConcurrently(300, i -> {
+            try {
+                currencyService.decrease(memberId, 1, CurrencyReason.ADMIN);
+                spent.incrementAndGet();
+            } catch (MemberException.NotEnoughCurrencyException ignored) {
+                // 잔액 부족은 정상적인 실패
+            }
+        });
+
+        assertEquals(100, spent.get());
+        assertEquals(0, findBalance(memberId));
+        assertEquals(-100, sumLedger(memberId));
+        assertEquals(100, countLedger(memberId));
+    }
+
+    @Test
+    void 동시에_지급과_차감을_섞어도_변경이_유실되지_않는다() throws Exception {
+        UUID memberId = saveMember(50);
+        AtomicInteger spent = new AtomicInteger();
+
+        runConcurrently(400, i -> {
+            if (i % 2 == 0) {
+                currencyService.increase(memberId, 3, CurrencyReason.ADMIN);
+                return;
+            }
+            try {
+                currencyService.decrease(memberId, 5, CurrencyReason.ADMIN);
+                spent.incrementAndGet();
+            } catch (MemberException.NotEnoughCurrencyException ignored) {
+                // 잔액 부족은 정상적인 실패
+            }
+        });
+
+        int expected = 50 + 200 * 3 - spent.get() * 5;
+        assertEquals(expected, findBalance(memberId));
+        assertEquals(expected - 50, sumLedger(memberId));
+        assertEquals(200 + spent.get(), countLedger(memberId));
+    }
+
+    private void runConcurrently(
+            final int taskCount,
+            final Task task
+    ) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(taskCount);
+        try {
+            for (int i = 0; i < taskCount; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private UUID saveMember(final int fishShapedBun) {
+        return memberRepository.save(Member.builder()
+                        .nickname("테스트 " + UUID.randomUUID())
+                        .fishShapedBun(fishShapedBun)
+                        .memberStatus(MemberStatus.REGISTRATION)
+                        .build())
+                .getId();
+    }
+
+    private int findBalance(final UUID memberId) {
+        return memberRepository.findById(memberId)
+                .orElseThrow()
+                .getFishShapedBun();
+    }
+
+    private long sumLedger(final UUID memberId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(amount), 0) FROM tbl_currency_ledger WHERE member_id = ?",
+                Long.class,
+                memberId
+        );
+    }
+
+    private long countLedger(final UUID memberId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tbl_currency_ledger WHERE member_id = ?",
+                Long.class,
+                memberId
+        );
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void run(int index);
+    }
+}